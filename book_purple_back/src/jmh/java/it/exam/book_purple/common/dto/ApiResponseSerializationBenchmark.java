@@ -0,0 +1,63 @@
+package it.exam.book_purple.common.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import it.exam.book_purple.security.dto.UserListDTO;
+
+/**
+ * 응답 envelope (ApiResponse) 직렬화 처리량
+ * small : 회원 1건, large : 회원 목록 200건
+ * reflection : 스프링 기본 ObjectMapper, blackbird : JacksonConfig 의 BlackbirdModule 등록
+ * ./gradlew jmh -Pjmh.includes=ApiResponseSerializationBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"small", "large"})
+    public String payload;
+
+    @Param({"reflection", "blackbird"})
+    public String mapper;
+
+    private ObjectMapper objectMapper;
+    private Object response;
+
+    @Setup
+    public void setUp(){
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if("blackbird".equals(mapper)){
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        List<UserListDTO> users = new ArrayList<>();
+        for(int i = 0; i < ("small".equals(payload) ? 1 : 200); i++){
+            users.add(new UserListDTO("user" + i, "회원" + i, "user" + i + "@example.com", "010-1234-5678",
+                                      "Y", "N", "USER", "일반회원", LocalDateTime.of(2025, 3, 1, 12, 0).plusMinutes(i)));
+        }
+        response = "small".equals(payload) ? users.get(0) : users;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.ok(response));
+    }
+}
@@ -0,0 +1,70 @@
+package it.exam.book_purple.common.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import it.exam.book_purple.security.dto.UserListDTO;
+
+/**
+ * JSON 응답 gzip 압축 CPU 비용 (응답 한건당)
+ * users : 응답에 담긴 회원 수 (1 건은 server.compression.min-response-size 2KB 미만이라 실제로는 압축 안함)
+ * level : 6 은 톰캣 기본 (Deflater.DEFAULT_COMPRESSION)
+ * ./gradlew jmh -Pjmh.includes=ResponseCompressionBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseCompressionBenchmark {
+
+    @Param({"1", "20", "200"})
+    public int users;
+
+    @Param({"1", "6"})
+    public int level;
+
+    private byte[] json;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() throws IOException{
+        List<UserListDTO> list = new ArrayList<>();
+        for(int i = 0; i < users; i++){
+            list.add(new UserListDTO("user" + i, "회원" + i, "user" + i + "@example.com", "010-1234-" + String.format("%04d", i),
+                                     "Y", "N", "USER", "일반회원", LocalDateTime.of(2025, 3, 1, 12, 0).plusMinutes(i)));
+        }
+        json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(ApiResponse.ok(list));
+        out = new ByteArrayOutputStream(json.length);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException{
+        out.reset();
+        try(OutputStream gzip = new LevelGZIPOutputStream(out, level)){
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static class LevelGZIPOutputStream extends GZIPOutputStream {
+        LevelGZIPOutputStream(OutputStream out, int level) throws IOException{
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+}
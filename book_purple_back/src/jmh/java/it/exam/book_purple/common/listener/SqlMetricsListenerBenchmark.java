@@ -0,0 +1,66 @@
+package it.exam.book_purple.common.listener;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.common.PreparedStatementInformation;
+
+import it.exam.book_purple.config.P6sypSqlFormater;
+
+/**
+ * SQL 한번 실행에 붙는 기록 비용
+ * formatted : 기존 p6spy 로그 포맷 (SQL 마다 값 치환 + Hibernate 포맷)
+ * metrics   : SqlMetricsListener 지표 기록
+ * disabled  : 지표, 상세 로그 모두 끈 경우
+ * ./gradlew jmh -Pjmh.includes=SqlMetricsListenerBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SqlMetricsListenerBenchmark {
+
+    private static final String SQL =
+            "select ue1_0.user_id,ue1_0.addr,ue1_0.addr_detail,ue1_0.birth,ue1_0.create_date,ue1_0.del_yn,"
+          + "ue1_0.email,ue1_0.gender,ue1_0.passwd,ue1_0.phone,r1_0.role_id,r1_0.role_name,r1_0.use_yn,"
+          + "ue1_0.update_date,ue1_0.use_yn,ue1_0.user_name from user ue1_0 join role r1_0 "
+          + "on r1_0.role_id=ue1_0.user_role where ue1_0.user_id=? and ue1_0.del_yn=?";
+
+    private PreparedStatementInformation statement;
+    private P6sypSqlFormater formatter;
+    private SqlMetricsListener metrics;
+    private SqlMetricsListener disabled;
+
+    @Setup
+    public void setUp(){
+        statement = new PreparedStatementInformation(ConnectionInformation.fromTestConnection(null), SQL);
+        statement.setParameterValue(1, "user01");
+        statement.setParameterValue(2, "N");
+
+        formatter = new P6sypSqlFormater();
+        metrics = new SqlMetricsListener(true, false, 500, 1000, 100, 500);
+        disabled = new SqlMetricsListener(false, false, 500, 1000, 100, 500);
+    }
+
+    @Benchmark
+    public String formatted(){
+        return formatter.formatMessage(1, null, 1, "statement", statement.getSql(), statement.getSqlWithValues(), null);
+    }
+
+    @Benchmark
+    public void metrics(){
+        metrics.onAfterAnyExecute(statement, 1_200_000, null);
+    }
+
+    @Benchmark
+    public void disabled(){
+        disabled.onAfterAnyExecute(statement, 1_200_000, null);
+    }
+}
@@ -0,0 +1,105 @@
+package it.exam.book_purple.common.logging;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * 요청 스레드 8개가 동시에 로그를 남길 때 호출 한번 비용 (쓰는 쪽이 못 따라가는 상황)
+ * async          : 기존 logback AsyncAppender (queueSize 512, discardingThreshold 0 -> 가득 차면 대기)
+ * ring-block     : RingBufferAppender BLOCK (버리지 않음)
+ * ring-keep-warn : RingBufferAppender KEEP_WARN (운영 설정, INFO 는 버림)
+ * 뒤쪽 appender 는 로그 한건에 포맷 + 약 2µs 쓰기 비용
+ * ./gradlew jmh -Pjmh.includes=RingBufferAppenderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class RingBufferAppenderBenchmark {
+
+    @Param({"async", "ring-block", "ring-keep-warn"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %-5level %logger{36} - %X{dd.trace_id:-0} %msg%n");
+        encoder.start();
+
+        // 파일 쓰기 대신
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                Blackhole.consumeCPU(encoder.encode(event).length * 8L);
+            }
+        };
+        slow.setContext(context);
+        slow.start();
+
+        if("async".equals(mode)){
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(512);
+            async.setDiscardingThreshold(0);
+            async.addAppender(slow);
+            async.start();
+            appender = async;
+        }else{
+            RingBufferAppender ring = new RingBufferAppender();
+            ring.setContext(context);
+            ring.setName(mode);
+            ring.setRingBufferSize(8192);
+            ring.setWarnReserve(1024);
+            ring.setDropPolicy("ring-block".equals(mode) ? RingBufferAppender.DropPolicy.BLOCK
+                                                         : RingBufferAppender.DropPolicy.KEEP_WARN);
+            ring.setAddDefaultStatusListener(false);
+            ring.addAppender(slow);
+            ring.start();
+            appender = ring;
+        }
+
+        logger = context.getLogger("it.exam.book_purple.security.service.UserServiceDetails");
+        logger.setAdditive(false);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.addAppender(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        context.stop();
+    }
+
+    @Benchmark
+    public void info(){
+        logger.info("회원 조회 : {} / {}", "user01", 42);
+    }
+}
@@ -0,0 +1,65 @@
+package it.exam.book_purple.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.jsonwebtoken.Jwts;
+import it.exam.book_purple.security.dto.TokenClaimsDTO;
+
+/**
+ * JWTFilter 한 요청당 토큰 처리 비용 비교
+ * legacy : 요청마다 파서를 새로 만들고 5번 검증 (기존 방식)
+ * single : 미리 만든 파서로 1번 검증
+ * cached : 검증된 토큰 캐시 히트
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilsBenchmark {
+
+    private static final String SECRET = "vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbalaaaaaaaaaaaaaaaabbbbb";
+
+    private JWTUtils jwtUtils;
+    private JWTTokenCache tokenCache;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setup(){
+        jwtUtils = new JWTUtils(SECRET);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        token = jwtUtils.createJWT("access", "user01", "홍길동", "USER", 30L);
+        tokenCache = new JWTTokenCache(jwtUtils, true, 10000);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh){
+        // validateToken, getCategory, getUserId, getUserName, getUserRole
+        for(String name : new String[]{"category", "category", "userId", "userName", "userRole"}){
+            bh.consume(Jwts.parser().verifyWith(secretKey).build()
+                           .parseSignedClaims(token).getPayload().get(name, String.class));
+        }
+    }
+
+    @Benchmark
+    public TokenClaimsDTO single(){
+        return jwtUtils.parseToken(token);
+    }
+
+    @Benchmark
+    public TokenClaimsDTO cached(){
+        return tokenCache.parseToken(token);
+    }
+}
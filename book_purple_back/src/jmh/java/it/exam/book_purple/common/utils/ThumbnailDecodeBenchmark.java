@@ -0,0 +1,95 @@
+package it.exam.book_purple.common.utils;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mortennobel.imagescaling.AdvancedResizeOp;
+import com.mortennobel.imagescaling.MultiStepRescaleOp;
+
+import it.exam.book_purple.common.thumbnail.ThumbnailSize;
+
+/**
+ * 큰 이미지(6000x4000) 썸네일 생성 시간, 메모리 비교
+ * full      : 기존 방식, ImageIO.read 로 전체 픽셀 디코딩
+ * subsample : ImageReader 서브샘플링으로 필요한 해상도까지만 디코딩
+ * ./gradlew jmh -Pjmh.includes=ThumbnailDecodeBenchmark -Pjmh.profilers=gc
+ * gc.alloc.rate.norm (B/op) 이 한번 생성할 때 할당하는 메모리
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ThumbnailDecodeBenchmark {
+
+    @Param({"jpg", "png"})
+    private String format;
+
+    private final ThumbnailSize size = new ThumbnailSize(300, 200);
+
+    private FileUtils fileUtils;
+    private Path workDir;
+    private File origin;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        fileUtils = new FileUtils();
+        fileUtils.setDecodeBudgetBytes(1024L * 1024 * 1024);
+        workDir = Files.createTempDirectory("thumb-bench");
+
+        // 휴대폰 사진 크기 (24MP)
+        BufferedImage image = new BufferedImage(6000, 4000, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, 6000, 4000, Color.BLUE));
+        g.fillRect(0, 0, 6000, 4000);
+        g.dispose();
+
+        origin = workDir.resolve("origin." + format).toFile();
+        ImageIO.write(image, format, origin);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try(var files = Files.walk(workDir)){
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public boolean full() throws Exception {
+        BufferedImage originImage = ImageIO.read(origin);
+        MultiStepRescaleOp scaleImage = new MultiStepRescaleOp(size.getWidth(), size.getHeight());
+        scaleImage.setUnsharpenMask(AdvancedResizeOp.UnsharpenMask.Soft);
+        BufferedImage resizeImage = scaleImage.filter(originImage, null);
+        return ImageIO.write(resizeImage, format, workDir.resolve("full." + format).toFile());
+    }
+
+    @Benchmark
+    public void subsample() throws Exception {
+        fileUtils.thumbNailFiles(origin, workDir.toString(), Map.of(size, "subsample." + format));
+    }
+}
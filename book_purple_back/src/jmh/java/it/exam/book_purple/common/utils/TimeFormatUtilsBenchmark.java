@@ -0,0 +1,34 @@
+package it.exam.book_purple.common.utils;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 응답 시간 문자열 (ApiResponse.date, ErrorResponse.nowTime) 만드는 비용
+ * legacy : 매번 ofPattern + format (기존)
+ * cached : 초 단위 캐시 (SecondClock)
+ * ./gradlew jmh -Pjmh.includes=TimeFormatUtilsBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeFormatUtilsBenchmark {
+
+    @Benchmark
+    public String legacy(){
+        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    @Benchmark
+    public String cached(){
+        return TimeFormatUtils.getDateTime();
+    }
+}
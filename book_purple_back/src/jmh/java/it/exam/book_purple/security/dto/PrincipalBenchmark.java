@@ -0,0 +1,46 @@
+package it.exam.book_purple.security.dto;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+/**
+ * JWTFilter 인증 객체 생성 비용 (요청당 할당 바이트)
+ * ./gradlew jmh -Pjmh.includes=PrincipalBenchmark -Pjmh.profilers=gc
+ * gc.alloc.rate.norm 값이 요청당 할당 바이트
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrincipalBenchmark {
+
+    private TokenClaimsDTO claims;
+
+    @Setup
+    public void setup(){
+        RoleAuthorities.register("USER");
+        claims = new TokenClaimsDTO("token-id", "access", null, "user01", "홍길동", "ROLE_USER",
+                                    System.currentTimeMillis() + 1_800_000L);
+    }
+
+    // 기존 방식 : UserSecureDTO + UsernamePasswordAuthenticationToken
+    @Benchmark
+    public Authentication legacy(){
+        UserSecureDTO dto = new UserSecureDTO(claims.getUserId(), claims.getUserName(), "", claims.getUserRole());
+        return new UsernamePasswordAuthenticationToken(dto, null, dto.getAuthorities());
+    }
+
+    // 캐시된 클레임에서 인증 객체 재사용
+    @Benchmark
+    public Authentication cached(){
+        return claims.toAuthentication();
+    }
+}
@@ -0,0 +1,158 @@
+package it.exam.book_purple.security.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import it.exam.book_purple.security.dto.UserListDTO;
+import it.exam.book_purple.security.dto.UserSearchDTO;
+import it.exam.book_purple.security.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 회원 검색 한 페이지 (20건 + 건수) 조회 비용
+ * entity   : UserRepository.findAll(Specification, Pageable) (엔티티 + role 전체, 변환)
+ * querydsl : UserQueryRepository DTO 조회 + count
+ * 둘 다 readOnly 트랜잭션, H2 MariaDB 호환 모드 회원 1만명
+ * ./gradlew jmh -Pjmh.includes=UserListQueryBenchmark -Pjmh.profilers=gc
+ * gc.alloc.rate.norm 값이 요청당 할당 바이트
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserListQueryBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    // none : 조건 없는 목록, keyword : 검색어 + 사용여부
+    @Param({"none", "keyword"})
+    private String filter;
+
+    private LocalContainerEntityManagerFactoryBean emfBean;
+    private TransactionTemplate readOnly;
+    private UserRepository userRepository;
+    private UserQueryRepository userQueryRepository;
+    private UserSearchDTO search;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:userlist;MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+
+        emfBean = new LocalContainerEntityManagerFactoryBean();
+        emfBean.setDataSource(dataSource);
+        emfBean.setPackagesToScan("it.exam.book_purple");
+        emfBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        emfBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"));
+        emfBean.afterPropertiesSet();
+        EntityManagerFactory emf = emfBean.getObject();
+
+        seed(dataSource);
+
+        readOnly = new TransactionTemplate(new JpaTransactionManager(emf));
+        readOnly.setReadOnly(true);
+
+        EntityManager em = SharedEntityManagerCreator.createSharedEntityManager(emf);
+        userRepository = new JpaRepositoryFactory(em).getRepository(UserRepository.class);
+        userQueryRepository = new UserQueryRepository(new JPAQueryFactory(JPQLTemplates.DEFAULT, em));
+
+        search = new UserSearchDTO();
+        if("keyword".equals(filter)){
+            search.setKeyword("user");
+            search.setUseYn("Y");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        emfBean.destroy();
+    }
+
+    @Benchmark
+    public List<UserListDTO> entity(){
+        return readOnly.execute(status -> {
+            Sort sort = Sort.by(Sort.Order.desc("createDate"), Sort.Order.desc("userId"));
+            Page<UserEntity> page = userRepository.findAll(UserSpecification.search(search), PageRequest.of(0, PAGE_SIZE, sort));
+            return page.map(UserListQueryBenchmark::toDTO).getContent();
+        });
+    }
+
+    @Benchmark
+    public List<UserListDTO> querydsl(){
+        return readOnly.execute(status -> {
+            List<UserListDTO> list = userQueryRepository.searchUserList(search, 0, PAGE_SIZE);
+            userQueryRepository.countUsers(search);
+            return list;
+        });
+    }
+
+    private static UserListDTO toDTO(UserEntity user){
+        return new UserListDTO(user.getUserId(), user.getUserName(), user.getEmail(), user.getPhone(),
+                               user.getUseYn(), user.getDelYn(),
+                               user.getRole().getRoleId(), user.getRole().getRoleName(),
+                               user.getCreateDate());
+    }
+
+    private static void seed(DriverManagerDataSource dataSource) throws Exception {
+        try(Connection con = dataSource.getConnection()){
+            con.setAutoCommit(false);
+            try(PreparedStatement ps = con.prepareStatement("insert into role (role_id, role_name, use_yn) values ('USER', '일반회원', 'Y')")){
+                ps.executeUpdate();
+            }
+
+            LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+            try(PreparedStatement ps = con.prepareStatement("""
+                    insert into user (user_id, passwd, user_name, birth, gender, phone, email, addr, addr_detail,
+                                      use_yn, del_yn, user_role, create_date)
+                    values (?, ?, ?, '19900101', 'M', '010-0000-0000', ?, '서울시 중구 세종대로 110', '서점빌딩 3층',
+                            ?, 'N', 'USER', ?)
+                    """)){
+                for(int i = 0; i < USERS; i++){
+                    ps.setString(1, String.format("user%05d", i));
+                    ps.setString(2, "{bcrypt}$2a$10$abcdefghijklmnopqrstuuN1Zr3k0j8oWvRkzYy4u1tq9q0Q8V6aS");
+                    ps.setString(3, "회원" + i);
+                    ps.setString(4, "user" + i + "@book.com");
+                    ps.setString(5, i % 10 == 0 ? "N" : "Y");
+                    ps.setTimestamp(6, Timestamp.valueOf(base.plusMinutes(i)));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+            con.commit();
+        }
+    }
+}
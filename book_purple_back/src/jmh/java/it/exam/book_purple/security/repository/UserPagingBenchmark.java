@@ -0,0 +1,137 @@
+package it.exam.book_purple.security.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 회원 목록 뒤 페이지 조회 비용 : OFFSET + COUNT (Page) vs 커서 (Slice)
+ * H2 MariaDB 호환 모드에 회원 10만명, (create_date, user_id) 인덱스 (결과 캐시 끔)
+ * 쿼리는 UserQueryRepository 가 만드는 SQL 과 같은 형태
+ * ./gradlew jmh -Pjmh.includes=UserPagingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserPagingBenchmark {
+
+    private static final int USERS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String COLUMNS =
+            "u.user_id, u.user_name, u.email, u.phone, u.use_yn, u.del_yn, u.create_date, r.role_id, r.role_name";
+
+    @Param({"1000"})
+    private int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement countQuery;
+    private PreparedStatement keysetQuery;
+
+    // page 바로 앞 페이지의 마지막 행 (클라이언트가 가진 커서)
+    private Timestamp cursorCreateDate;
+    private String cursorUserId;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:paging;MODE=MariaDB;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+
+        try(Statement st = connection.createStatement()){
+            st.execute("create table role (role_id varchar(20) primary key, role_name varchar(50))");
+            st.execute("""
+                       create table user (user_id varchar(50) primary key, user_name varchar(50), email varchar(100),
+                                          phone varchar(20), use_yn char(1), del_yn char(1), user_role varchar(20),
+                                          create_date timestamp(6))
+                       """);
+            st.execute("create index idx_user_create_date on user (create_date, user_id)");
+            st.execute("insert into role values ('USER', '일반회원')");
+        }
+
+        connection.setAutoCommit(false);
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        try(PreparedStatement ps = connection.prepareStatement("insert into user values (?, ?, ?, ?, 'Y', 'N', 'USER', ?)")){
+            for(int i = 0; i < USERS; i++){
+                ps.setString(1, String.format("user%06d", i));
+                ps.setString(2, "회원" + i);
+                ps.setString(3, "user" + i + "@book.com");
+                ps.setString(4, "010-0000-0000");
+                // 가입 시간이 겹치는 회원도 있도록 (userId 로 순서 결정)
+                ps.setTimestamp(5, Timestamp.valueOf(base.plusMinutes(i / 3)));
+                ps.addBatch();
+                if(i % 1000 == 999){
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+
+        String order = " order by u.create_date, u.user_id";
+        String join = " from user u join role r on r.role_id = u.user_role";
+
+        offsetQuery = connection.prepareStatement("select " + COLUMNS + join + order + " limit ? offset ?");
+        countQuery = connection.prepareStatement("select count(u.user_id) from user u");
+        keysetQuery = connection.prepareStatement("select " + COLUMNS + join
+                + " where u.create_date >= ? and (u.create_date > ? or u.user_id > ?)" + order + " limit ?");
+
+        try(PreparedStatement ps = connection.prepareStatement("select create_date, user_id from user u" + order + " limit 1 offset ?")){
+            ps.setInt(1, page * PAGE_SIZE - 1);
+            try(ResultSet rs = ps.executeQuery()){
+                rs.next();
+                cursorCreateDate = rs.getTimestamp(1);
+                cursorUserId = rs.getString(2);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+    }
+
+    // 기존 findAll(Pageable) : LIMIT/OFFSET + COUNT
+    @Benchmark
+    public void offset(Blackhole bh) throws Exception {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setInt(2, page * PAGE_SIZE);
+        consume(offsetQuery, bh);
+        consume(countQuery, bh);
+    }
+
+    // findUserList : 커서 다음부터 size + 1 건
+    @Benchmark
+    public void keyset(Blackhole bh) throws Exception {
+        keysetQuery.setTimestamp(1, cursorCreateDate);
+        keysetQuery.setTimestamp(2, cursorCreateDate);
+        keysetQuery.setString(3, cursorUserId);
+        keysetQuery.setInt(4, PAGE_SIZE + 1);
+        consume(keysetQuery, bh);
+    }
+
+    private static void consume(PreparedStatement ps, Blackhole bh) throws Exception {
+        try(ResultSet rs = ps.executeQuery()){
+            while(rs.next()){
+                bh.consume(rs.getString(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package it.exam.book_purple.security.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import it.exam.book_purple.security.dto.UserSearchDTO;
+import it.exam.book_purple.security.entity.UserEntity;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * 회원 검색 조건 (UserListQueryBenchmark 의 엔티티 조회 비교용, 화면은 UserQueryRepository 사용)
+ * UserQueryRepository.searchCondition 과 같은 조건
+ * role 은 FK 컬럼(user_role)으로만 비교해서 count 쿼리에 join 이 생기지 않도록 함
+ */
+public final class UserSpecification {
+
+    private UserSpecification(){
+    }
+
+    public static Specification<UserEntity> search(UserSearchDTO search){
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if(StringUtils.hasText(search.getKeyword())){
+                String keyword = "%" + search.getKeyword().trim().toLowerCase(Locale.ROOT) + "%";
+                switch(search.getSearchType()){
+                    case USER_ID -> predicates.add(cb.like(cb.lower(root.get("userId")), keyword));
+                    case USER_NAME -> predicates.add(cb.like(cb.lower(root.get("userName")), keyword));
+                    case EMAIL -> predicates.add(cb.like(cb.lower(root.get("email")), keyword));
+                    default -> predicates.add(cb.or(
+                                    cb.like(cb.lower(root.get("userId")), keyword),
+                                    cb.like(cb.lower(root.get("userName")), keyword),
+                                    cb.like(cb.lower(root.get("email")), keyword)));
+                }
+            }
+
+            if(StringUtils.hasText(search.getUseYn())){
+                predicates.add(cb.equal(root.get("useYn"), search.getUseYn().trim().toUpperCase(Locale.ROOT)));
+            }
+            if(StringUtils.hasText(search.getDelYn())){
+                predicates.add(cb.equal(root.get("delYn"), search.getDelYn().trim().toUpperCase(Locale.ROOT)));
+            }
+            if(StringUtils.hasText(search.getRoleId())){
+                // role.roleId 는 FK 값이라 join 없이 비교
+                predicates.add(cb.equal(root.get("role").get("roleId"), search.getRoleId().trim().toUpperCase(Locale.ROOT)));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package it.exam.book_purple.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 간단한 closed-loop 부하 테스트
+ * 동시 사용자 수만큼 요청을 계속 보내고 처리량, 지연시간 분포, 상태코드를 출력
+ *
+ * 비교 방법
+ * 1. ./gradlew bootRun               (플랫폼 스레드) -> ./gradlew loadTest
+ * 2. ./gradlew bootRun -PvirtualThreads (가상 스레드) -> ./gradlew loadTest
+ *
+ * args : url, concurrency, durationSeconds, method, body
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:9090/api/v1/login";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        String method = args.length > 3 ? args[3] : "POST";
+        String body = args.length > 4 ? args[4] : "";
+
+        HttpClient client = HttpClient.newBuilder()
+                                .connectTimeout(Duration.ofSeconds(10))
+                                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                                .build();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                                .timeout(Duration.ofSeconds(60))
+                                .header("Content-Type", "application/x-www-form-urlencoded")
+                                .method(method, body.isEmpty()
+                                        ? HttpRequest.BodyPublishers.noBody()
+                                        : HttpRequest.BodyPublishers.ofString(body))
+                                .build();
+
+        System.out.printf("url=%s concurrency=%d duration=%ds%n", url, concurrency, durationSeconds);
+
+        // 워밍업 5초
+        run(client, request, concurrency, 5);
+        Result result = run(client, request, concurrency, durationSeconds);
+
+        result.print(durationSeconds);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request,
+                              int concurrency, int durationSeconds) throws Exception {
+
+        long endAt = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        List<Future<Worker>> futures = new ArrayList<>();
+
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()){
+            for(int i = 0; i < concurrency; i++){
+                futures.add(executor.submit(() -> {
+                    Worker worker = new Worker();
+                    while(System.nanoTime() < endAt){
+                        long start = System.nanoTime();
+                        try{
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            worker.record(System.nanoTime() - start, response.statusCode());
+                        }catch(Exception e){
+                            worker.record(System.nanoTime() - start, -1);
+                        }
+                    }
+                    return worker;
+                }));
+            }
+        }
+
+        Result result = new Result();
+        for(Future<Worker> future : futures){
+            result.merge(future.get());
+        }
+        return result;
+    }
+
+    // 스레드별 기록 (공유 자료구조 없이)
+    private static class Worker {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+
+        void record(long nanos, int status){
+            if(count == latencies.length){
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            statusCounts.merge(status, 1, Integer::sum);
+        }
+    }
+
+    private static class Result {
+        private long[] latencies = new long[0];
+        private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+
+        void merge(Worker worker){
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + worker.count);
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            worker.statusCounts.forEach((status, cnt) -> statusCounts.merge(status, cnt, Integer::sum));
+        }
+
+        void print(int durationSeconds){
+            Arrays.sort(latencies);
+            System.out.printf("requests   : %d%n", latencies.length);
+            System.out.printf("throughput : %.1f req/s%n", (double) latencies.length / durationSeconds);
+            System.out.printf("p50        : %.2f ms%n", percentile(0.50));
+            System.out.printf("p90        : %.2f ms%n", percentile(0.90));
+            System.out.printf("p99        : %.2f ms%n", percentile(0.99));
+            System.out.printf("max        : %.2f ms%n", percentile(1.0));
+            System.out.printf("status     : %s (-1 = 연결 오류)%n", statusCounts);
+        }
+
+        double percentile(double p){
+            if(latencies.length == 0){
+                return 0;
+            }
+            int idx = (int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1);
+            return latencies[Math.max(0, idx)] / 1_000_000.0;
+        }
+    }
+}
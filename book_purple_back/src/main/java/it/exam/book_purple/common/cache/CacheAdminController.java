@@ -0,0 +1,46 @@
+package it.exam.book_purple.common.cache;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 2차 캐시 관리
+ */
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    // 영역별 적중/실패
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(){
+        return ResponseEntity.ok(ApiResponse.ok(secondLevelCacheService.getStats()));
+    }
+
+    // 통계 수집 켜기/끄기
+    @PutMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> setStatisticsEnabled(@RequestParam boolean enabled){
+        secondLevelCacheService.setStatisticsEnabled(enabled);
+        return ResponseEntity.ok(ApiResponse.ok(secondLevelCacheService.getStats()));
+    }
+
+    // 영역 비우기 (DB 를 직접 수정한 경우)
+    @DeleteMapping("/{region}")
+    public ResponseEntity<ApiResponse<String>> evictRegion(@PathVariable String region){
+        secondLevelCacheService.evictRegion(region);
+        return ResponseEntity.ok(ApiResponse.ok(region));
+    }
+}
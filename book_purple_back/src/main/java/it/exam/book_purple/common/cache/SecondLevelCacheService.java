@@ -0,0 +1,66 @@
+package it.exam.book_purple.common.cache;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * hibernate 2차 캐시 영역별 지표, 비우기
+ * 적중/실패 수는 hibernate 통계가 켜져 있을 때만 쌓임 (generate_statistics 또는 setStatisticsEnabled)
+ */
+@Service
+public class SecondLevelCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory){
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    // 영역별 적중/실패
+    public Map<String, Object> getStats(){
+        Statistics statistics = sessionFactory.getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for(String regionName : statistics.getSecondLevelCacheRegionNames()){
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            long hitCount = region.getHitCount();
+            long missCount = region.getMissCount();
+
+            Map<String, Object> regionMap = new LinkedHashMap<>();
+            regionMap.put("hitCount", hitCount);
+            regionMap.put("missCount", missCount);
+            regionMap.put("putCount", region.getPutCount());
+            regionMap.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+            regions.put(regionName, regionMap);
+        }
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        resultMap.put("regions", regions);
+        return resultMap;
+    }
+
+    // 통계 수집 켜기/끄기 (재시작 없이)
+    public void setStatisticsEnabled(boolean enabled){
+        sessionFactory.getStatistics().setStatisticsEnabled(enabled);
+    }
+
+    /**
+     * 영역 비우기
+     * @param regionName ex) role
+     */
+    public void evictRegion(String regionName){
+        if(!Arrays.asList(sessionFactory.getStatistics().getSecondLevelCacheRegionNames()).contains(regionName)){
+            throw new RuntimeException("없는 캐시 영역입니다. : " + regionName);
+        }
+        sessionFactory.getCache().evictRegion(regionName);
+    }
+}
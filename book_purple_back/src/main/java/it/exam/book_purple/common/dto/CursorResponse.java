@@ -0,0 +1,30 @@
+package it.exam.book_purple.common.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 방식 목록 응답
+ * 다음 페이지는 nextCursor 를 그대로 넘겨서 조회, 마지막 페이지면 null
+ * totalRows 는 요청한 경우에만 (캐시된 값이라 최근 변경이 늦게 반영될 수 있음)
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> list;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final Long totalRows;
+
+    public CursorResponse(Slice<T> slice, String nextCursor, Long totalRows) {
+        this.list = slice.getContent();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.nextCursor = nextCursor;
+        this.totalRows = totalRows;
+    }
+}
@@ -0,0 +1,26 @@
+package it.exam.book_purple.common.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.Getter;
+
+/**
+ * 페이지 번호 방식 목록 응답 (Pagination.jsx 의 page, totalRows)
+ */
+@Getter
+public class PageResponse<T> {
+
+    private final List<T> list;
+    private final int page;
+    private final int size;
+    private final long totalRows;
+
+    public PageResponse(Page<T> page) {
+        this.list = page.getContent();
+        this.page = page.getNumber();
+        this.size = page.getSize();
+        this.totalRows = page.getTotalElements();
+    }
+}
@@ -0,0 +1,153 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커넥션 풀 크기 자동 조절 (spring.datasource.adaptive.enabled=true)
+ * 주기마다 커넥션 대기시간과 사용률을 보고 min-size ~ 설정한 maximum-pool-size 사이에서 조절
+ *   늘림 : 대기 초과, 평균 대기시간이 target-wait 초과, 또는 대기 스레드가 있을 때 (25% 씩)
+ *   줄임 : 동시 사용 최대값이 현재 크기의 low-utilization 미만인 상태가 shrink-after 번 연속일 때 (25% 씩)
+ * 상한은 설정한 maximum-pool-size 그대로라서 가상 스레드 모드 permit 수와 어긋나지 않음
+ * 줄인 만큼의 커넥션은 idle-timeout 이 지나면 정리됨
+ */
+@Slf4j
+public class AdaptivePoolSizer {
+
+    private final PoolTelemetry telemetry;
+    private final int configuredMinSize;
+    private final long targetWaitNanos;
+    private final double lowUtilization;
+    private final int shrinkAfter;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastAcquireCount;
+    private long lastAcquireNanos;
+    private long lastTimeoutCount;
+    private int calmTicks;
+    // 설정한 minimum-idle (줄였다 늘릴 때 되돌릴 값), 크기 범위 (처음 실행할 때 풀 설정에서 읽음)
+    private int configuredMinIdle = -1;
+    private volatile int minSize;
+    private volatile int maxSize;
+
+    private volatile int currentSize;
+    private volatile String lastDecision = "none";
+    private volatile double lastAvgWaitMillis;
+    private volatile int lastPeakInUse;
+
+    public AdaptivePoolSizer(PoolTelemetry telemetry, int minSize,
+                             long targetWaitMillis, double lowUtilization, int shrinkAfter){
+        this.telemetry = telemetry;
+        this.configuredMinSize = Math.max(1, minSize);
+        this.targetWaitNanos = targetWaitMillis * 1_000_000L;
+        this.lowUtilization = lowUtilization;
+        this.shrinkAfter = shrinkAfter;
+    }
+
+    /**
+     * 한 주기 판단 (지난 호출 이후의 값으로)
+     * @return 바뀐 풀 크기
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.adaptive.interval:10000}",
+               initialDelayString = "${spring.datasource.adaptive.interval:10000}")
+    public int tick(){
+        HikariDataSource dataSource = telemetry.getDataSource();
+        if(dataSource == null || dataSource.getHikariPoolMXBean() == null){
+            return currentSize;
+        }
+
+        lock.lock();
+        try{
+            if(configuredMinIdle < 0){
+                HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+                configuredMinIdle = config.getMinimumIdle();
+                maxSize = config.getMaximumPoolSize();
+                minSize = Math.min(configuredMinSize, maxSize);
+                currentSize = maxSize;
+            }
+
+            long acquireCount = telemetry.getAcquireCount();
+            long acquireNanos = telemetry.getAcquireNanos();
+            long timeoutCount = telemetry.getTimeoutCount();
+
+            long acquires = acquireCount - lastAcquireCount;
+            long avgWaitNanos = acquires == 0 ? 0 : (acquireNanos - lastAcquireNanos) / acquires;
+            long timeouts = timeoutCount - lastTimeoutCount;
+            int pending = telemetry.getPendingThreads();
+            int peakInUse = telemetry.getAndResetPeakInUse();
+
+            lastAcquireCount = acquireCount;
+            lastAcquireNanos = acquireNanos;
+            lastTimeoutCount = timeoutCount;
+            lastAvgWaitMillis = avgWaitNanos / 1_000_000.0;
+            lastPeakInUse = peakInUse;
+
+            int size = currentSize;
+            int step = Math.max(1, size / 4);
+            int newSize = size;
+
+            if(timeouts > 0 || avgWaitNanos > targetWaitNanos || pending > 0){
+                calmTicks = 0;
+                newSize = Math.min(maxSize, size + step);
+                lastDecision = "grow";
+            }else if(peakInUse < size * lowUtilization){
+                if(++calmTicks >= shrinkAfter){
+                    calmTicks = 0;
+                    newSize = Math.max(minSize, Math.max(peakInUse, size - step));
+                    lastDecision = "shrink";
+                }else{
+                    lastDecision = "hold";
+                }
+            }else{
+                calmTicks = 0;
+                lastDecision = "hold";
+            }
+
+            if(newSize != size){
+                resize(dataSource, newSize);
+                log.info("커넥션 풀 크기 {} -> {} (평균 대기 {}ms, 대기 초과 {}, 대기 스레드 {}, 최대 사용 {})",
+                         size, newSize, lastAvgWaitMillis, timeouts, pending, peakInUse);
+            }
+            return newSize;
+        }finally{
+            lock.unlock();
+        }
+    }
+
+    public int getCurrentSize(){
+        return currentSize;
+    }
+
+    public Map<String, Object> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("minSize", minSize);
+        resultMap.put("maxSize", maxSize);
+        resultMap.put("currentSize", currentSize);
+        resultMap.put("lastDecision", lastDecision);
+        resultMap.put("lastAvgWaitMillis", lastAvgWaitMillis);
+        resultMap.put("lastPeakInUse", lastPeakInUse);
+        return resultMap;
+    }
+
+    private void resize(HikariDataSource dataSource, int newSize){
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        // 늘릴 때는 max 먼저, 줄일 때는 minimumIdle 먼저 (minimumIdle <= max 유지)
+        if(newSize > config.getMaximumPoolSize()){
+            config.setMaximumPoolSize(newSize);
+            config.setMinimumIdle(Math.min(newSize, configuredMinIdle));
+        }else{
+            config.setMinimumIdle(Math.min(newSize, configuredMinIdle));
+            config.setMaximumPoolSize(newSize);
+        }
+        currentSize = newSize;
+    }
+}
@@ -0,0 +1,118 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 풀 크기만큼만 커넥션을 빌려주는 DataSource
+ * 가상 스레드 모드에서는 요청 스레드 수 제한이 없어서
+ * 수천개의 스레드가 Hikari 대기열에 쌓이지 않도록 앞에서 permit 으로 막는다
+ * permit 은 커넥션을 close 할 때 반납
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutMillis;
+
+    private final LongAdder timeoutCount = new LongAdder();
+
+    public ConnectionPermitDataSource(DataSource target, int maxPermits, long timeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try{
+            return wrap(super.getConnection());
+        }catch(SQLException | RuntimeException e){
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try{
+            return wrap(super.getConnection(username, password));
+        }catch(SQLException | RuntimeException e){
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getAvailablePermits(){
+        return permits.availablePermits();
+    }
+
+    public int getMaxPermits(){
+        return maxPermits;
+    }
+
+    public int getQueueLength(){
+        return permits.getQueueLength();
+    }
+
+    public long getTimeoutCount(){
+        return timeoutCount.sum();
+    }
+
+    private void acquire() throws SQLException {
+        try{
+            if(!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)){
+                timeoutCount.increment();
+                throw new SQLTransientConnectionException("커넥션 대기 시간 초과 (" + timeoutMillis + "ms)");
+            }
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트", e);
+        }
+    }
+
+    // close 될 때 permit 반납 (여러번 close 해도 한번만)
+    private Connection wrap(Connection connection){
+        AtomicBoolean released = new AtomicBoolean();
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            if("close".equals(method.getName()) && method.getParameterCount() == 0){
+                try{
+                    return invoke(connection, method, args);
+                }finally{
+                    if(released.compareAndSet(false, true)){
+                        permits.release();
+                    }
+                }
+            }
+            return invoke(connection, method, args);
+        };
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                                                   new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try{
+            return method.invoke(connection, args);
+        }catch(InvocationTargetException e){
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.AppenderBase;
+import it.exam.book_purple.common.utils.TimeFormatUtils;
+
+/**
+ * Hikari 커넥션 누수 보고 보관 (logback-common.xml 에서 ProxyLeakTask 로거에 연결)
+ * leak-detection-threshold 보다 오래 반납하지 않은 커넥션을 빌려간 위치(stack trace)를 최근 것부터 보관
+ */
+public class HikariLeakAppender extends AppenderBase<ILoggingEvent> {
+
+    private static final int MAX_REPORTS = 50;
+    private static final int MAX_FRAMES = 20;
+
+    private static final ArrayBlockingQueue<Map<String, Object>> REPORTS = new ArrayBlockingQueue<>(MAX_REPORTS);
+    private static final LongAdder LEAK_COUNT = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 누수 뒤 늦게 반납된 경우 (Previously reported leaked connection ... was returned) 는 건수에서 제외
+        if(event.getThrowableProxy() == null){
+            return;
+        }
+        LEAK_COUNT.increment();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("time", TimeFormatUtils.getDateTime());
+        report.put("message", event.getFormattedMessage());
+        report.put("stackTrace", stackTrace(event.getThrowableProxy()));
+
+        // 가득 차면 오래된 것부터 버림
+        while(!REPORTS.offer(report)){
+            REPORTS.poll();
+        }
+    }
+
+    // 최근 누수 보고 (오래된 것부터)
+    public static List<Map<String, Object>> getReports(){
+        return new ArrayList<>(REPORTS);
+    }
+
+    public static long getLeakCount(){
+        return LEAK_COUNT.sum();
+    }
+
+    private static List<String> stackTrace(IThrowableProxy throwable){
+        List<String> frames = new ArrayList<>();
+        StackTraceElementProxy[] elements = throwable.getStackTraceElementProxyArray();
+        for(int i = 0; i < elements.length && frames.size() < MAX_FRAMES; i++){
+            frames.add(elements[i].getSTEAsString());
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,129 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 지연시간 히스토그램
+ * 기록은 구간 찾기 + LongAdder 증가만 (락, 할당 없음), 백분위는 구간 상한값으로 근사
+ * SQL, 커넥션 풀, 요청 지표(Prometheus)가 같은 구간을 사용
+ */
+public class LatencyHistogram {
+
+    // 구간 상한 (마이크로초), 마지막 구간은 그 이상 전부
+    private static final long[] BOUNDS_MICROS =
+            {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+             100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000};
+
+    // Prometheus le 라벨 (초)
+    private static final String[] BOUNDS_SECONDS = new String[BOUNDS_MICROS.length];
+
+    static {
+        for(int i = 0; i < BOUNDS_MICROS.length; i++){
+            BOUNDS_SECONDS[i] = BigDecimal.valueOf(BOUNDS_MICROS[i], 6).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MICROS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram(){
+        for(int i = 0; i < buckets.length; i++){
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos){
+        long micros = nanos / 1_000;
+        int idx = 0;
+        while(idx < BOUNDS_MICROS.length && micros > BOUNDS_MICROS[idx]){
+            idx++;
+        }
+        buckets[idx].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount(){
+        return count.sum();
+    }
+
+    public long getTotalNanos(){
+        return totalNanos.sum();
+    }
+
+    /**
+     * 백분위 근사값 (ms)
+     * @param percentile 0 ~ 1
+     */
+    public double percentileMillis(double percentile){
+        long[] snapshot = new long[buckets.length];
+        long total = 0;
+        for(int i = 0; i < buckets.length; i++){
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if(total == 0){
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for(int i = 0; i < BOUNDS_MICROS.length; i++){
+            seen += snapshot[i];
+            if(seen >= rank){
+                return BOUNDS_MICROS[i] / 1_000.0;
+            }
+        }
+        // 마지막 구간은 최대값
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Prometheus 히스토그램 형식으로 쓰기 (구간별 누적 건수, _sum 은 초)
+     * @param name 지표 이름
+     * @param labels 라벨 (중괄호 없이, escape 된 값)
+     */
+    public void writePrometheus(Writer writer, String name, String labels) throws IOException{
+        long cumulative = 0;
+        for(int i = 0; i < BOUNDS_MICROS.length; i++){
+            cumulative += buckets[i].sum();
+            writer.write(name + "_bucket{" + labels + ",le=\"" + BOUNDS_SECONDS[i] + "\"} " + cumulative + "\n");
+        }
+        cumulative += buckets[BOUNDS_MICROS.length].sum();
+        writer.write(name + "_bucket{" + labels + ",le=\"+Inf\"} " + cumulative + "\n");
+        writer.write(name + "_sum{" + labels + "} " + totalNanos.sum() / 1_000_000_000.0 + "\n");
+        writer.write(name + "_count{" + labels + "} " + cumulative + "\n");
+    }
+
+    // 건수, 평균, 최대, 백분위, 구간별 건수
+    public Map<String, Object> toMap(){
+        long cnt = count.sum();
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("count", cnt);
+        resultMap.put("avgMillis", cnt == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / cnt);
+        resultMap.put("maxMillis", maxNanos.get() / 1_000_000.0);
+        resultMap.put("p50Millis", percentileMillis(0.50));
+        resultMap.put("p95Millis", percentileMillis(0.95));
+        resultMap.put("p99Millis", percentileMillis(0.99));
+
+        Map<String, Long> bucketMap = new LinkedHashMap<>();
+        for(int i = 0; i < buckets.length; i++){
+            String label = i < BOUNDS_MICROS.length
+                         ? "le_" + (BOUNDS_MICROS[i] / 1_000.0) + "ms"
+                         : "gt_" + (BOUNDS_MICROS[BOUNDS_MICROS.length - 1] / 1_000.0) + "ms";
+            bucketMap.put(label, buckets[i].sum());
+        }
+        resultMap.put("buckets", bucketMap);
+        return resultMap;
+    }
+}
@@ -0,0 +1,40 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 커넥션 풀 지표
+ */
+@RestController
+@RequestMapping("/api/v1/admin/pool")
+@RequiredArgsConstructor
+public class PoolMetricsController {
+
+    private final PoolTelemetry poolTelemetry;
+    private final ObjectProvider<AdaptivePoolSizer> adaptivePoolSizer;
+
+    // 대기/사용 시간 히스토그램, 대기 스레드, 자동 조절 상태
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(){
+        Map<String, Object> resultMap = poolTelemetry.getStats();
+        resultMap.put("leakCount", HikariLeakAppender.getLeakCount());
+        adaptivePoolSizer.ifAvailable(sizer -> resultMap.put("adaptive", sizer.getStats()));
+        return ResponseEntity.ok(ApiResponse.ok(resultMap));
+    }
+
+    // 최근 커넥션 누수 보고 (빌려간 위치)
+    @GetMapping("/leaks")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getLeaks(){
+        return ResponseEntity.ok(ApiResponse.ok(HikariLeakAppender.getReports()));
+    }
+}
@@ -0,0 +1,130 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Hikari 커넥션 풀 지표
+ * 커넥션 대기시간(acquire), 사용시간(usage), 생성시간 히스토그램, 대기 초과 수, 대기 스레드 등
+ * Hikari 의 MetricsTrackerFactory 로 등록 (풀이 시작되기 전에 설정해야 함)
+ */
+public class PoolTelemetry implements MetricsTrackerFactory {
+
+    private final LatencyHistogram acquireHistogram = new LatencyHistogram();
+    private final LatencyHistogram usageHistogram = new LatencyHistogram();
+    private final LatencyHistogram createHistogram = new LatencyHistogram();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    // 빌려간 커넥션 수와 구간 최대값 (AdaptivePoolSizer 가 읽고 초기화)
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+    private volatile HikariDataSource dataSource;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new Tracker();
+    }
+
+    // 크기 조절, 정확한 대기 스레드 수 조회용
+    public void bind(HikariDataSource dataSource){
+        this.dataSource = dataSource;
+    }
+
+    public HikariDataSource getDataSource(){
+        return dataSource;
+    }
+
+    // 커넥션을 얻은 횟수, 대기시간 합계 (ns)
+    public long getAcquireCount(){
+        return acquireHistogram.getCount();
+    }
+
+    public long getAcquireNanos(){
+        return acquireHistogram.getTotalNanos();
+    }
+
+    public long getTimeoutCount(){
+        return timeoutCount.sum();
+    }
+
+    public int getInUse(){
+        return inUse.get();
+    }
+
+    // 지난 호출 이후 동시에 빌려간 최대 커넥션 수
+    public int getAndResetPeakInUse(){
+        return peakInUse.getAndSet(inUse.get());
+    }
+
+    // 커넥션을 기다리는 스레드 수 (풀 시작 전이면 0)
+    public int getPendingThreads(){
+        HikariDataSource ds = dataSource;
+        HikariPoolMXBean pool = ds == null ? null : ds.getHikariPoolMXBean();
+        if(pool != null){
+            return pool.getThreadsAwaitingConnection();
+        }
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getPendingThreads();
+    }
+
+    public Map<String, Object> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("poolName", poolName);
+
+        PoolStats stats = poolStats;
+        if(stats != null){
+            // PoolStats 는 1초 동안 값을 재사용
+            resultMap.put("totalConnections", stats.getTotalConnections());
+            resultMap.put("activeConnections", stats.getActiveConnections());
+            resultMap.put("idleConnections", stats.getIdleConnections());
+            resultMap.put("maxConnections", stats.getMaxConnections());
+            resultMap.put("minConnections", stats.getMinConnections());
+        }
+        resultMap.put("pendingThreads", getPendingThreads());
+        resultMap.put("inUse", inUse.get());
+        resultMap.put("timeoutCount", timeoutCount.sum());
+        resultMap.put("acquire", acquireHistogram.toMap());
+        resultMap.put("usage", usageHistogram.toMap());
+        resultMap.put("create", createHistogram.toMap());
+        return resultMap;
+    }
+
+    private class Tracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireHistogram.record(elapsedAcquiredNanos);
+            peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        }
+
+        // 커넥션을 반납(close)할 때
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageHistogram.record(elapsedBorrowedMillis * 1_000_000L);
+            inUse.decrementAndGet();
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            createHistogram.record(connectionCreatedMillis * 1_000_000L);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCount.increment();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 지문 (값만 다른 SQL 을 하나로 묶기 위한 정규화)
+ * 문자열/숫자 값은 ?, IN (?, ?, ...) 은 IN (?), 공백은 한칸으로
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint(){
+    }
+
+    public static String of(String sql){
+        if(sql == null){
+            return "";
+        }
+        String result = STRING_LITERAL.matcher(sql).replaceAll("?");
+        result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+        result = IN_LIST.matcher(result).replaceAll("in (?)");
+        result = WHITESPACE.matcher(result).replaceAll(" ");
+        return result.trim();
+    }
+}
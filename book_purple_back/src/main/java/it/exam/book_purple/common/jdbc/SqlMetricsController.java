@@ -0,0 +1,73 @@
+package it.exam.book_purple.common.jdbc;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import it.exam.book_purple.common.listener.SqlMetricsListener;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 SQL 지표
+ */
+@RestController
+@RequestMapping("/api/v1/admin/sql")
+@RequiredArgsConstructor
+public class SqlMetricsController {
+
+    private final SqlMetricsListener sqlMetricsListener;
+
+    /**
+     * SQL 지문별 지표 (총 실행시간 순)
+     * @param limit 최대 건수
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(@RequestParam(defaultValue = "50") int limit){
+        return ResponseEntity.ok(ApiResponse.ok(sqlMetricsListener.getStats(limit)));
+    }
+
+    // 최근 느린 SQL
+    @GetMapping("/slow")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getSlowQueries(){
+        return ResponseEntity.ok(ApiResponse.ok(sqlMetricsListener.getSlowQueries()));
+    }
+
+    /**
+     * 설정 변경 (재시작 없이)
+     * @param enabled 지표 수집
+     * @param detailed SQL 마다 포맷해서 로그 (개발용)
+     * @param slowThreshold 느린 SQL 기준 (ms)
+     */
+    @PutMapping("/settings")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> updateSettings(
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) Boolean detailed,
+            @RequestParam(required = false) Long slowThreshold){
+
+        if(enabled != null){
+            sqlMetricsListener.setEnabled(enabled);
+        }
+        if(detailed != null){
+            sqlMetricsListener.setDetailed(detailed);
+        }
+        if(slowThreshold != null){
+            sqlMetricsListener.setSlowThresholdMillis(slowThreshold);
+        }
+        return ResponseEntity.ok(ApiResponse.ok(sqlMetricsListener.getSettings()));
+    }
+
+    // 지표 초기화
+    @DeleteMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> reset(){
+        sqlMetricsListener.reset();
+        return ResponseEntity.ok(ApiResponse.ok(sqlMetricsListener.getSettings()));
+    }
+}
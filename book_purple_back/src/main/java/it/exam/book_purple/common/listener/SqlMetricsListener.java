@@ -0,0 +1,201 @@
+package it.exam.book_purple.common.listener;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+
+import it.exam.book_purple.common.jdbc.LatencyHistogram;
+import it.exam.book_purple.common.jdbc.SqlFingerprint;
+import it.exam.book_purple.common.utils.TimeFormatUtils;
+import it.exam.book_purple.config.P6sypSqlFormater;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SQL 실행 지표 (p6spy 리스너)
+ * SQL 지문별 지연시간 히스토그램, 건수, 오류 수 + 기준시간 넘는 느린 SQL 샘플
+ * 실행마다 하는 일은 지문 조회(맵) + 히스토그램 기록뿐이고, SQL 포맷/값 치환은 느린 SQL 이나 상세 로그를 켰을 때만
+ * 지표, 상세 로그, 기준시간은 재시작 없이 변경 가능 (/api/v1/admin/sql)
+ */
+@Slf4j
+public class SqlMetricsListener extends SimpleJdbcEventListener {
+
+    // 지문이 너무 많아지면 (값이 SQL 에 직접 들어간 경우 등) 나머지는 한곳에 모음
+    private static final String OTHER = "(other)";
+
+    // 기존 p6spy 로그 설정(logback 의 p6spy 로거) 그대로 사용
+    private static final Logger sqlLog = LoggerFactory.getLogger("p6spy");
+
+    private final P6sypSqlFormater formatter = new P6sypSqlFormater();
+
+    private final int maxFingerprints;
+    private final int maxSqlCache;
+    private final long slowLogIntervalNanos;
+
+    private volatile boolean enabled;
+    private volatile boolean detailed;
+    private volatile long slowThresholdNanos;
+
+    // 원본 SQL -> 지표 (Hibernate 는 같은 SQL 문자열을 재사용하므로 정규화는 처음 한번만)
+    private final ConcurrentMap<String, SqlStats> sqlCache = new ConcurrentHashMap<>();
+    // 지문 -> 지표
+    private final ConcurrentMap<String, SqlStats> statsMap = new ConcurrentHashMap<>();
+
+    private final ArrayBlockingQueue<Map<String, Object>> slowQueries;
+
+    public SqlMetricsListener(boolean enabled, boolean detailed, long slowThresholdMillis,
+                              long slowLogIntervalMillis, int slowSamples, int maxFingerprints){
+        this.enabled = enabled;
+        this.detailed = detailed;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+        this.slowLogIntervalNanos = slowLogIntervalMillis * 1_000_000L;
+        this.maxFingerprints = maxFingerprints;
+        this.maxSqlCache = maxFingerprints * 4;
+        this.slowQueries = new ArrayBlockingQueue<>(Math.max(1, slowSamples));
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        if(detailed){
+            sqlLog.info(formatter.formatMessage(statementInformation.getConnectionInformation().getConnectionId(),
+                        null, timeElapsedNanos / 1_000_000, "statement", statementInformation.getSql(),
+                        statementInformation.getSqlWithValues(), null));
+        }
+        if(!enabled){
+            return;
+        }
+
+        SqlStats stats = statsOf(statementInformation.getSql());
+        stats.histogram.record(timeElapsedNanos);
+        if(e != null){
+            stats.errorCount.increment();
+        }
+        if(timeElapsedNanos >= slowThresholdNanos){
+            stats.slowCount.increment();
+            sampleSlowQuery(stats, statementInformation, timeElapsedNanos);
+        }
+    }
+
+    // 지표 켜기/끄기
+    public void setEnabled(boolean enabled){
+        this.enabled = enabled;
+    }
+
+    // SQL 마다 포맷해서 로그 (개발용)
+    public void setDetailed(boolean detailed){
+        this.detailed = detailed;
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis){
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+    }
+
+    public void reset(){
+        sqlCache.clear();
+        statsMap.clear();
+        slowQueries.clear();
+    }
+
+    public Map<String, Object> getSettings(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("enabled", enabled);
+        resultMap.put("detailed", detailed);
+        resultMap.put("slowThresholdMillis", slowThresholdNanos / 1_000_000);
+        return resultMap;
+    }
+
+    /**
+     * 지문별 지표 (총 실행시간 순)
+     * @param limit 최대 건수
+     */
+    public Map<String, Object> getStats(int limit){
+        List<SqlStats> sorted = new ArrayList<>(statsMap.values());
+        sorted.sort(Comparator.comparingLong((SqlStats stats) -> stats.histogram.getTotalNanos()).reversed());
+
+        List<Map<String, Object>> statements = new ArrayList<>();
+        for(SqlStats stats : sorted.subList(0, Math.min(limit, sorted.size()))){
+            Map<String, Object> statMap = new LinkedHashMap<>();
+            statMap.put("fingerprint", stats.fingerprint);
+            statMap.put("errorCount", stats.errorCount.sum());
+            statMap.put("slowCount", stats.slowCount.sum());
+            statMap.putAll(stats.histogram.toMap());
+            statements.add(statMap);
+        }
+
+        Map<String, Object> resultMap = getSettings();
+        resultMap.put("fingerprintCount", statsMap.size());
+        resultMap.put("statements", statements);
+        return resultMap;
+    }
+
+    // 최근 느린 SQL (오래된 것부터)
+    public List<Map<String, Object>> getSlowQueries(){
+        return new ArrayList<>(slowQueries);
+    }
+
+    private SqlStats statsOf(String sql){
+        if(sql == null){
+            sql = "";
+        }
+        SqlStats stats = sqlCache.get(sql);
+        if(stats != null){
+            return stats;
+        }
+
+        String fingerprint = SqlFingerprint.of(sql);
+        stats = statsMap.get(fingerprint);
+        if(stats == null){
+            String key = statsMap.size() < maxFingerprints ? fingerprint : OTHER;
+            stats = statsMap.computeIfAbsent(key, SqlStats::new);
+        }
+        if(sqlCache.size() < maxSqlCache){
+            sqlCache.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    private void sampleSlowQuery(SqlStats stats, StatementInformation statementInformation, long timeElapsedNanos){
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("time", TimeFormatUtils.getDateTime());
+        sample.put("elapsedMillis", timeElapsedNanos / 1_000_000.0);
+        sample.put("fingerprint", stats.fingerprint);
+        sample.put("sql", statementInformation.getSqlWithValues());
+
+        // 가득 차면 오래된 것부터 버림
+        while(!slowQueries.offer(sample)){
+            slowQueries.poll();
+        }
+
+        // 같은 SQL 이 계속 느리면 로그는 간격을 두고 한번씩
+        long now = System.nanoTime();
+        long last = stats.lastSlowLogNanos.get();
+        if(now - last >= slowLogIntervalNanos && stats.lastSlowLogNanos.compareAndSet(last, now)){
+            log.warn("느린 SQL {}ms (누적 {}회) : {}", timeElapsedNanos / 1_000_000, stats.slowCount.sum(), sample.get("sql"));
+        }
+    }
+
+    private static class SqlStats {
+        private final String fingerprint;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final AtomicLong lastSlowLogNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+        SqlStats(String fingerprint){
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package it.exam.book_purple.common.logging;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+
+/**
+ * 관리자 로그 appender 상태
+ */
+@RestController
+@RequestMapping("/api/v1/admin/logging")
+public class LoggingAdminController {
+
+    // 링 버퍼 사용량, 레벨별 버린 건수 (운영 로그 설정일 때만 항목이 있음)
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getStats(){
+        return ResponseEntity.ok(ApiResponse.ok(RingBufferAppender.getAllStats()));
+    }
+}
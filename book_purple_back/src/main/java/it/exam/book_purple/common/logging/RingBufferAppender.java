@@ -0,0 +1,156 @@
+package it.exam.book_purple.common.logging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.util.Duration;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+/**
+ * 링 버퍼(Disruptor) 비동기 appender (logback-prod.xml)
+ * 요청 스레드는 버퍼 자리만 CAS 로 잡고 바로 돌아감, 파일 쓰기는 전용 스레드 하나가 처리
+ * 버퍼가 가득 찼을 때 처리는 dropPolicy 로 정함
+ *  DROP      : 모든 레벨 바로 버림
+ *  KEEP_WARN : 남은 자리가 warnReserve 보다 적으면 INFO 이하는 버리고, WARN/ERROR 는 appendTimeout 까지 기다림
+ *  BLOCK     : 자리가 날 때까지 기다림 (기존 AsyncAppender discardingThreshold 0 과 같음)
+ * 버린 건수는 레벨별로 집계 (/api/v1/admin/logging/stats)
+ */
+public class RingBufferAppender extends LoggingEventAsyncDisruptorAppender {
+
+    public enum DropPolicy { DROP, KEEP_WARN, BLOCK }
+
+    private static final Level[] LEVELS = { Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR };
+
+    // 관리자 화면 조회용 (시작된 appender)
+    private static final Map<String, RingBufferAppender> APPENDERS = new ConcurrentHashMap<>();
+
+    private DropPolicy dropPolicy = DropPolicy.KEEP_WARN;
+    private int warnReserve = -1;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder[] dropped = new LongAdder[LEVELS.length];
+
+    public RingBufferAppender(){
+        for(int i = 0; i < dropped.length; i++){
+            dropped[i] = new LongAdder();
+        }
+        // 기본(blocking)은 넣을 때마다 lock + signal, sleeping 은 쓰는 쪽이 대기 중인 스레드를 깨우지 않음
+        setWaitStrategyType("sleeping{200,1000000}");
+        setAppendTimeout(Duration.buildByMilliseconds(100));
+
+        addListener(new AppenderListener<>() {
+            @Override
+            public void eventAppended(Appender<ILoggingEvent> appender, ILoggingEvent event, long durationInNanos) {
+                appended.increment();
+            }
+
+            @Override
+            public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+                dropped[levelIndex(event.getLevel())].increment();
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        if(dropPolicy == DropPolicy.DROP){
+            setAppendTimeout(Duration.buildByMilliseconds(0));
+        }else if(dropPolicy == DropPolicy.BLOCK){
+            setAppendTimeout(Duration.buildByMilliseconds(-1));
+        }
+        // 지정 안하면 버퍼의 1/8
+        if(warnReserve < 0){
+            warnReserve = getRingBufferSize() / 8;
+        }
+        super.start();
+        if(isStarted()){
+            APPENDERS.put(getName(), this);
+        }
+    }
+
+    @Override
+    public void stop() {
+        APPENDERS.remove(getName(), this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // WARN/ERROR 자리를 남겨두고 INFO 이하는 기다리지 않고 버림
+        if(dropPolicy == DropPolicy.KEEP_WARN
+                && !event.getLevel().isGreaterOrEqual(Level.WARN)
+                && getDisruptor().getRingBuffer().remainingCapacity() < warnReserve){
+            dropped[levelIndex(event.getLevel())].increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public Map<String, Object> getStats(){
+        Map<String, Object> droppedMap = new LinkedHashMap<>();
+        long droppedTotal = 0;
+        for(int i = 0; i < LEVELS.length; i++){
+            long count = dropped[i].sum();
+            droppedMap.put(LEVELS[i].toString(), count);
+            droppedTotal += count;
+        }
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("name", getName());
+        resultMap.put("dropPolicy", dropPolicy);
+        resultMap.put("ringBufferSize", getRingBufferSize());
+        resultMap.put("remainingCapacity", isStarted() ? getDisruptor().getRingBuffer().remainingCapacity() : 0);
+        resultMap.put("warnReserve", warnReserve);
+        resultMap.put("appended", appended.sum());
+        resultMap.put("dropped", droppedTotal);
+        resultMap.put("droppedByLevel", droppedMap);
+        return resultMap;
+    }
+
+    public long getDroppedCount(Level level){
+        return dropped[levelIndex(level)].sum();
+    }
+
+    // 시작된 전체 appender 상태
+    public static List<Map<String, Object>> getAllStats(){
+        List<Map<String, Object>> resultList = new ArrayList<>();
+        for(RingBufferAppender appender : APPENDERS.values()){
+            resultList.add(appender.getStats());
+        }
+        return resultList;
+    }
+
+    public DropPolicy getDropPolicy() {
+        return dropPolicy;
+    }
+
+    public void setDropPolicy(DropPolicy dropPolicy) {
+        this.dropPolicy = dropPolicy;
+    }
+
+    public int getWarnReserve() {
+        return warnReserve;
+    }
+
+    public void setWarnReserve(int warnReserve) {
+        this.warnReserve = warnReserve;
+    }
+
+    private static int levelIndex(Level level){
+        switch(level.toInt()){
+            case Level.TRACE_INT: return 0;
+            case Level.DEBUG_INT: return 1;
+            case Level.INFO_INT: return 2;
+            case Level.WARN_INT: return 3;
+            default: return 4;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package it.exam.book_purple.common.logging;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 trace/span 아이디를 MDC 에 넣음 (로그 패턴의 dd.trace_id, dd.span_id)
+ * 앞단에서 W3C traceparent 헤더를 보내면 그 trace 아이디를 이어서 사용
+ * 서블릿 필터 맨 앞에 등록 (WebConfig) 해서 보안 필터, 이미지 요청 로그에도 붙음
+ */
+public class TraceIdFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID = "dd.trace_id";
+    public static final String SPAN_ID = "dd.span_id";
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String traceId = parseTraceId(request.getHeader(TRACEPARENT_HEADER));
+        if(traceId == null){
+            traceId = newId() + newId();
+        }
+
+        MDC.put(TRACE_ID, traceId);
+        MDC.put(SPAN_ID, newId());
+        response.setHeader(TRACE_ID_HEADER, traceId);
+        try{
+            filterChain.doFilter(request, response);
+        }finally{
+            // 스레드 재사용 시 다른 요청에 남지 않도록
+            MDC.remove(TRACE_ID);
+            MDC.remove(SPAN_ID);
+        }
+    }
+
+    /**
+     * traceparent : 버전(2)-trace아이디(32)-부모span(16)-플래그(2), 소문자 16진수
+     * @return 형식이 다르거나 전부 0 이면 null
+     */
+    static String parseTraceId(String traceparent){
+        if(traceparent == null || traceparent.length() < 55 || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-'){
+            return null;
+        }
+        String traceId = traceparent.substring(3, 35);
+        boolean allZero = true;
+        for(int i = 0; i < traceId.length(); i++){
+            char c = traceId.charAt(i);
+            if(!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))){
+                return null;
+            }
+            allZero &= c == '0';
+        }
+        return allZero ? null : traceId;
+    }
+
+    // 64bit 16진수 16자리
+    private static String newId(){
+        long id;
+        do{
+            id = ThreadLocalRandom.current().nextLong();
+        }while(id == 0);
+        return HEX.toHexDigits(id);
+    }
+}
@@ -0,0 +1,77 @@
+package it.exam.book_purple.common.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import it.exam.book_purple.common.utils.JsonResponseUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Prometheus 수집 경로 (/metrics) 인증
+ * 수집기는 JWT 로그인을 할 수 없어서 설정에 둔 고정 토큰(Authorization: Bearer)과 허용 IP 로 확인
+ * 토큰이 설정되지 않으면 모든 요청 거절
+ */
+public class MetricsScrapeFilter extends OncePerRequestFilter {
+
+    public static final String ROLE = "ROLE_METRICS";
+
+    private static final byte[] UNAUTHORIZED_BODY =
+            JsonResponseUtils.encodeResult("Unauthorized", HttpServletResponse.SC_UNAUTHORIZED);
+
+    private final byte[] token;
+    private final Set<String> allowedIps;
+
+    /**
+     * @param token 고정 토큰 (비어 있으면 수집 경로 사용 안함)
+     * @param allowedIps 허용 IP (비어 있으면 IP 확인 안함)
+     */
+    public MetricsScrapeFilter(String token, List<String> allowedIps){
+        this.token = token == null ? new byte[0] : token.trim().getBytes(StandardCharsets.UTF_8);
+        this.allowedIps = allowedIps.stream()
+                            .map(String::trim)
+                            .filter(ip -> !ip.isEmpty())
+                            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if(!isAllowed(request)){
+            JsonResponseUtils.write(response, HttpServletResponse.SC_UNAUTHORIZED, UNAUTHORIZED_BODY);
+            return;
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("metrics", null, List.of(new SimpleGrantedAuthority(ROLE))));
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isAllowed(HttpServletRequest request){
+        if(token.length == 0){
+            return false;
+        }
+        if(!allowedIps.isEmpty() && !allowedIps.contains(request.getRemoteAddr())){
+            return false;
+        }
+
+        String header = request.getHeader("Authorization");
+        if(header == null || !header.startsWith("Bearer ")){
+            return false;
+        }
+        // 비교 시간으로 토큰을 알아낼 수 없도록
+        return MessageDigest.isEqual(token, header.substring(7).trim().getBytes(StandardCharsets.UTF_8));
+    }
+}
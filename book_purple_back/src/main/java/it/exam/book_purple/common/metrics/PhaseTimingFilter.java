@@ -0,0 +1,91 @@
+package it.exam.book_purple.common.metrics;
+
+import java.io.IOException;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * 처리 구간 시간 측정 필터
+ * self       : 감싼 필터 자체 시간 (다음 필터들에서 보낸 시간은 뺌), JWTFilter / LoginFilter / 토큰 재발급 / 로그아웃
+ * downstream : 이 위치 다음(보안 필터 체인 이후 컨트롤러)에서 보낸 시간
+ * RequestMetricsFilter 가 없으면 측정하지 않고 그대로 실행
+ */
+public class PhaseTimingFilter implements Filter {
+
+    private final RequestPhase phase;
+    private final Filter delegate;
+
+    private PhaseTimingFilter(RequestPhase phase, Filter delegate){
+        this.phase = phase;
+        this.delegate = delegate;
+    }
+
+    public static PhaseTimingFilter self(RequestPhase phase, Filter delegate){
+        return new PhaseTimingFilter(phase, delegate);
+    }
+
+    public static PhaseTimingFilter downstream(RequestPhase phase){
+        return new PhaseTimingFilter(phase, null);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        RequestTiming timing = (RequestTiming) request.getAttribute(RequestTiming.ATTRIBUTE);
+
+        if(delegate == null){
+            long start = System.nanoTime();
+            try{
+                chain.doFilter(request, response);
+            }finally{
+                if(timing != null){
+                    timing.add(phase, System.nanoTime() - start);
+                }
+            }
+            return;
+        }
+
+        if(timing == null){
+            delegate.doFilter(request, response, chain);
+            return;
+        }
+
+        DownstreamChain downstream = new DownstreamChain(chain);
+        long start = System.nanoTime();
+        try{
+            delegate.doFilter(request, response, downstream);
+        }finally{
+            timing.add(phase, System.nanoTime() - start - downstream.nanos);
+            if(!downstream.called){
+                timing.handledBy = phase;
+            }
+        }
+    }
+
+    // 다음 필터들에서 보낸 시간
+    private static class DownstreamChain implements FilterChain {
+        private final FilterChain chain;
+        private long nanos;
+        private boolean called;
+
+        DownstreamChain(FilterChain chain){
+            this.chain = chain;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            called = true;
+            long start = System.nanoTime();
+            try{
+                chain.doFilter(request, response);
+            }finally{
+                nanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
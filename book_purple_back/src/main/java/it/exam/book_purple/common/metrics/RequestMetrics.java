@@ -0,0 +1,142 @@
+package it.exam.book_purple.common.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import it.exam.book_purple.common.jdbc.LatencyHistogram;
+
+/**
+ * 요청 지표 저장소
+ * 경로(URI 패턴)별 지연시간 히스토그램, 상태코드별 건수, 처리 구간(JWT, 로그인, 컨트롤러)별 시간, 처리 중 요청 수
+ * 히스토그램은 SQL/커넥션 풀 지표와 같은 LatencyHistogram (같은 구간)
+ * Prometheus 텍스트 형식으로 내보냄 (관리자 /api/v1/admin/metrics, 수집기 /metrics 는 MetricsScrapeFilter 의 토큰으로)
+ */
+@Component
+public class RequestMetrics {
+
+    // 패턴을 못 찾은 요청 (보안 필터에서 거절 등), 경로가 너무 많을 때 나머지
+    public static final String UNMATCHED = "UNMATCHED";
+    public static final String OTHER = "OTHER";
+
+    private final int maxRoutes;
+    private final ConcurrentMap<String, RouteStats> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public RequestMetrics(@Value("${spring.metrics.request.max-routes:500}") int maxRoutes){
+        this.maxRoutes = maxRoutes;
+    }
+
+    void requestStarted(){
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * 요청 한건 기록
+     * @param phaseNanos RequestPhase 순서, 실행 안된 구간은 -1
+     */
+    void requestFinished(String method, String route, int status, long totalNanos, long[] phaseNanos){
+        inFlight.decrementAndGet();
+
+        RouteStats stats = routeStats(method, route);
+        stats.total.record(totalNanos);
+        stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        for(int i = 0; i < phaseNanos.length; i++){
+            if(phaseNanos[i] >= 0){
+                stats.phases[i].record(phaseNanos[i]);
+            }
+        }
+    }
+
+    public int getInFlight(){
+        return inFlight.get();
+    }
+
+    // Prometheus 텍스트 형식 (version 0.0.4)
+    public void writePrometheus(Writer writer) throws IOException{
+        List<RouteStats> sorted = new ArrayList<>(routes.values());
+        sorted.sort(Comparator.comparing((RouteStats stats) -> stats.route).thenComparing(stats -> stats.method));
+
+        writer.write("# HELP http_server_requests_in_flight Requests currently being processed\n");
+        writer.write("# TYPE http_server_requests_in_flight gauge\n");
+        writer.write("http_server_requests_in_flight " + inFlight.get() + "\n");
+
+        writer.write("# HELP http_server_requests_seconds Request latency by route\n");
+        writer.write("# TYPE http_server_requests_seconds histogram\n");
+        for(RouteStats stats : sorted){
+            writeHistogram(writer, "http_server_requests_seconds", stats.labels, stats.total);
+        }
+
+        writer.write("# HELP http_server_responses_total Responses by route and status code\n");
+        writer.write("# TYPE http_server_responses_total counter\n");
+        for(RouteStats stats : sorted){
+            for(Map.Entry<Integer, LongAdder> entry : stats.statuses.entrySet()){
+                writer.write("http_server_responses_total{" + stats.labels + ",status=\"" + entry.getKey() + "\"} "
+                             + entry.getValue().sum() + "\n");
+            }
+        }
+
+        writer.write("# HELP http_server_phase_seconds Time spent in security filters and the controller by route\n");
+        writer.write("# TYPE http_server_phase_seconds histogram\n");
+        for(RouteStats stats : sorted){
+            for(RequestPhase phase : RequestPhase.values()){
+                writeHistogram(writer, "http_server_phase_seconds",
+                               "phase=\"" + phase.getLabel() + "\"," + stats.labels, stats.phases[phase.ordinal()]);
+            }
+        }
+    }
+
+    private RouteStats routeStats(String method, String route){
+        String key = method + " " + route;
+        RouteStats stats = routes.get(key);
+        if(stats != null){
+            return stats;
+        }
+        if(routes.size() >= maxRoutes){
+            route = OTHER;
+            key = method + " " + OTHER;
+        }
+        String finalRoute = route;
+        return routes.computeIfAbsent(key, k -> new RouteStats(method, finalRoute));
+    }
+
+    private static void writeHistogram(Writer writer, String name, String labels, LatencyHistogram histogram) throws IOException{
+        if(histogram.getCount() == 0){
+            return;
+        }
+        histogram.writePrometheus(writer, name, labels);
+    }
+
+    // Prometheus 라벨 값 escape (\, ", 줄바꿈)
+    private static String escape(String value){
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static class RouteStats {
+        private final String method;
+        private final String route;
+        private final String labels;
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram[] phases = new LatencyHistogram[RequestPhase.values().length];
+        private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        RouteStats(String method, String route){
+            this.method = method;
+            this.route = route;
+            this.labels = "method=\"" + escape(method) + "\",route=\"" + escape(route) + "\"";
+            for(int i = 0; i < phases.length; i++){
+                phases[i] = new LatencyHistogram();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package it.exam.book_purple.common.metrics;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 지표 (Prometheus 텍스트 형식)
+ * /api/v1/admin/metrics : 관리자 (JWT)
+ * /metrics              : 수집기 (고정 토큰 + 허용 IP, MetricsScrapeFilter)
+ */
+@RestController
+@RequiredArgsConstructor
+public class RequestMetricsController {
+
+    public static final String SCRAPE_PATH = "/metrics";
+
+    private final RequestMetrics requestMetrics;
+
+    // Prometheus 텍스트 형식
+    @GetMapping({"/api/v1/admin/metrics", SCRAPE_PATH})
+    public void prometheus(HttpServletResponse response) throws Exception{
+        response.setContentType("text/plain; version=0.0.4");
+        response.setCharacterEncoding("UTF-8");
+        requestMetrics.writePrometheus(response.getWriter());
+    }
+}
@@ -0,0 +1,58 @@
+package it.exam.book_purple.common.metrics;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 지표 수집 (보안 필터 체인 맨 앞)
+ * 전체 처리 시간, 상태코드, 처리 중 요청 수를 경로 패턴별로 기록
+ * 경로는 실제 URI 가 아니라 매핑된 패턴 (/api/v1/users/{id} 등) 이라 값 종류가 늘어나지 않음
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final RequestMetrics requestMetrics;
+
+    public RequestMetricsFilter(RequestMetrics requestMetrics){
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestTiming timing = new RequestTiming();
+        request.setAttribute(RequestTiming.ATTRIBUTE, timing);
+
+        requestMetrics.requestStarted();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try{
+            filterChain.doFilter(request, response);
+            failed = false;
+        }finally{
+            // 예외가 밖으로 나가면 컨테이너가 500 으로 응답
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            requestMetrics.requestFinished(request.getMethod(), route(request, timing), status,
+                                           System.nanoTime() - start, timing.phaseNanos);
+        }
+    }
+
+    private static String route(HttpServletRequest request, RequestTiming timing){
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if(pattern != null){
+            return pattern.toString();
+        }
+        // 컨트롤러까지 가지 않고 필터가 응답한 경우 (로그인, 토큰 오류 등)
+        if(timing.handledBy != null){
+            return "filter:" + timing.handledBy.getLabel();
+        }
+        return RequestMetrics.UNMATCHED;
+    }
+}
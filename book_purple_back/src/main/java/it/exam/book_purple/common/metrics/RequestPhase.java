@@ -0,0 +1,23 @@
+package it.exam.book_purple.common.metrics;
+
+/**
+ * 요청 처리 구간 (요청 지표에서 따로 집계)
+ */
+public enum RequestPhase {
+
+    JWT("jwt"),
+    LOGIN("login"),
+    REFRESH("refresh"),
+    LOGOUT("logout"),
+    CONTROLLER("controller");
+
+    private final String label;
+
+    RequestPhase(String label){
+        this.label = label;
+    }
+
+    public String getLabel(){
+        return label;
+    }
+}
@@ -0,0 +1,25 @@
+package it.exam.book_purple.common.metrics;
+
+import java.util.Arrays;
+
+/**
+ * 요청 한건의 구간별 시간 (요청 속성으로 필터끼리 공유)
+ */
+class RequestTiming {
+
+    static final String ATTRIBUTE = RequestTiming.class.getName();
+
+    // RequestPhase 순서, 실행 안된 구간은 -1
+    final long[] phaseNanos = new long[RequestPhase.values().length];
+    // 다음 필터로 넘기지 않고 직접 응답한 구간 (로그인 등)
+    RequestPhase handledBy;
+
+    RequestTiming(){
+        Arrays.fill(phaseNanos, -1);
+    }
+
+    void add(RequestPhase phase, long nanos){
+        int idx = phase.ordinal();
+        phaseNanos[idx] = Math.max(0, phaseNanos[idx]) + nanos;
+    }
+}
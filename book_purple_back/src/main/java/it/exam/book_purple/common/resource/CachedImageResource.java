@@ -0,0 +1,100 @@
+package it.exam.book_purple.common.resource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * 메모리(direct ByteBuffer)에 올린 이미지
+ * 요청마다 buffer 를 복제해서 읽으므로 여러 요청이 동시에 읽어도 됨
+ */
+class CachedImageResource extends AbstractResource {
+
+    private final Path path;
+    private final String filename;
+    private final ByteBuffer content;
+    private final long lastModified;
+
+    CachedImageResource(Path path, ByteBuffer content, long lastModified){
+        this.path = path;
+        this.filename = path.getFileName().toString();
+        this.content = content.asReadOnlyBuffer();
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public InputStream getInputStream(){
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    @Override
+    public boolean exists(){
+        return true;
+    }
+
+    @Override
+    public long contentLength(){
+        return content.remaining();
+    }
+
+    @Override
+    public long lastModified(){
+        return lastModified;
+    }
+
+    @Override
+    public String getFilename(){
+        return filename;
+    }
+
+    // 같은 폴더의 파일 (압축본 .gz, .br 확인용)
+    @Override
+    public Resource createRelative(String relativePath){
+        return new FileSystemResource(path.resolveSibling(relativePath));
+    }
+
+    @Override
+    public String getDescription(){
+        return "cached image [" + filename + "]";
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer){
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read(){
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len){
+            if(!buffer.hasRemaining()){
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n){
+            int count = (int)Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available(){
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package it.exam.book_purple.common.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자주 요청되는 이미지를 direct ByteBuffer(힙 밖)에 올려두는 resolver
+ * 전체 크기(byte) 한도 안에서 Caffeine(W-TinyLFU)이 요청 빈도 기준으로 남길 이미지를 고름
+ * 한번 요청된 이미지가 자주 쓰이는 이미지를 밀어내지 않음
+ * 캐시에서 꺼낼 때마다 파일의 수정시간, 크기를 확인해서 바뀌었으면 다시 읽음
+ * 파일 삭제는 FileUtils.deleteFile 에서 invalidate 로 알려줌
+ */
+@Slf4j
+public class HotImageResourceResolver extends AbstractResourceResolver {
+
+    private final long maxEntryBytes;
+
+    // key : 요청 경로
+    private final Cache<String, CachedImage> cache;
+
+    // 실제 파일 경로 -> 요청 경로 (삭제 알림 시 바로 찾기)
+    private final Map<Path, String> keysByPath = new ConcurrentHashMap<>();
+
+    private final LongAdder staleCount = new LongAdder();
+
+    /**
+     * @param maxBytes 캐시 전체 크기 한도
+     * @param maxEntryBytes 이보다 큰 파일은 캐시하지 않음 (sendfile 로 전송)
+     */
+    public HotImageResourceResolver(long maxBytes, long maxEntryBytes){
+        this.maxEntryBytes = Math.min(maxEntryBytes, Integer.MAX_VALUE);
+        this.cache = Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher((String key, CachedImage image) -> (int)image.resource.contentLength())
+                        // 크기 한도로 밀려난 항목 (같은 key 를 다시 올리는 것과 겹치지 않음)
+                        .evictionListener((String key, CachedImage image, RemovalCause cause) -> {
+                            if(image != null){
+                                keysByPath.remove(image.path, key);
+                            }
+                        })
+                        .recordStats()
+                        .build();
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+
+        // 캐시하지 않는 파일(없음, 너무 큼, 읽기 실패)은 디스크 resource 를 그대로 전송
+        Resource[] uncached = new Resource[1];
+        boolean[] loaded = new boolean[1];
+
+        try{
+            // 같은 이미지를 동시에 요청하면 한 요청만 읽고 나머지는 기다림
+            CachedImage cached = cache.get(requestPath, key -> {
+                loaded[0] = true;
+                return load(request, key, locations, chain, uncached);
+            });
+
+            // 파일이 바뀌었으면 (썸네일 다시 생성 등) 버리고 다시 읽음
+            if(cached != null && !loaded[0] && !cached.isCurrent()){
+                staleCount.increment();
+                cache.asMap().remove(requestPath, cached);
+                cached = cache.get(requestPath, key -> load(request, key, locations, chain, uncached));
+            }
+            return cached != null ? cached.resource : uncached[0];
+
+        }catch(UncheckedIOException e){
+            // 캐시 실패는 디스크에서 그대로 전송
+            log.warn("이미지 캐시 실패 : {} ({})", requestPath, e.getCause().toString());
+            return uncached[0];
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * 삭제된 파일 캐시에서 제거
+     * @param path 실제 파일 경로
+     */
+    public void invalidate(Path path){
+        String key = keysByPath.remove(path.toAbsolutePath().normalize());
+        if(key != null){
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidateAll(){
+        cache.invalidateAll();
+        keysByPath.clear();
+    }
+
+    // 히트율, 사용 중인 byte
+    public Map<String, Object> getStats(){
+        // 밀린 크기 계산 반영 후 조회
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("size", cache.estimatedSize());
+        resultMap.put("bytes", cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L));
+        resultMap.put("hitCount", stats.hitCount());
+        resultMap.put("missCount", stats.missCount());
+        resultMap.put("evictionCount", stats.evictionCount());
+        resultMap.put("staleCount", staleCount.sum());
+        resultMap.put("hitRate", stats.hitRate());
+
+        return resultMap;
+    }
+
+    // 디스크 resource 확인 후 캐시할 파일이면 메모리에 올림, 아니면 null (uncached 에 디스크 resource)
+    private CachedImage load(HttpServletRequest request, String requestPath, List<? extends Resource> locations,
+                             ResourceResolverChain chain, Resource[] uncached){
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        uncached[0] = resource;
+        if(resource == null || !resource.isFile()){
+            return null;
+        }
+
+        try{
+            File file = resource.getFile();
+            if(file.length() > maxEntryBytes){
+                return null;
+            }
+
+            CachedImage image = read(file.toPath().toAbsolutePath().normalize());
+            keysByPath.put(image.path, requestPath);
+            return image;
+
+        }catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 파일 -> direct buffer 로 바로 읽음 (힙 byte[] 거치지 않음)
+    // 수정시간, 크기는 읽기 전에 확인 (읽는 중에 바뀌면 다음 요청에서 다시 읽음)
+    private static CachedImage read(Path path) throws IOException{
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int)channel.size());
+            while(buffer.hasRemaining()){
+                if(channel.read(buffer) < 0){
+                    break;
+                }
+            }
+            buffer.flip();
+
+            long lastModified = attrs.lastModifiedTime().toMillis();
+            return new CachedImage(path, attrs.size(), lastModified, new CachedImageResource(path, buffer, lastModified));
+        }
+    }
+
+    private record CachedImage(Path path, long size, long lastModified, CachedImageResource resource){
+
+        // 캐시에 올린 뒤 파일이 바뀌거나 삭제되지 않았는지
+        boolean isCurrent(){
+            try{
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                return attrs.size() == size && attrs.lastModifiedTime().toMillis() == lastModified;
+            }catch(IOException e){
+                return false;
+            }
+        }
+    }
+}
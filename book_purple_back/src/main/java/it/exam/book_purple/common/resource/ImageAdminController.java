@@ -0,0 +1,74 @@
+package it.exam.book_purple.common.resource;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import it.exam.book_purple.common.thumbnail.ThumbnailJob;
+import it.exam.book_purple.common.utils.FileUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 이미지 업로드, 전송 지표
+ */
+@RestController
+@RequestMapping("/api/v1/admin/images")
+@RequiredArgsConstructor
+@Slf4j
+public class ImageAdminController {
+
+    private final FileUtils fileUtils;
+
+    private final ImageResourceHandler imageResourceHandler;
+    private final HotImageResourceResolver hotImageResourceResolver;
+    private final ImageVariantResourceResolver imageVariantResourceResolver;
+
+    @Value("${server.file.gallery.path}")
+    private String galleryPath;
+
+    /**
+     * 갤러리 이미지 업로드
+     * 원본만 저장하고 바로 응답, 크기별 이미지는 썸네일 작업으로 생성 (jobId 로 상태 조회)
+     * @param file
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> uploadImage(@RequestParam("file") MultipartFile file) throws Exception{
+        Map<String, Object> resultMap = fileUtils.uploadFiles(file, galleryPath);
+        if(resultMap == null){
+            throw new RuntimeException("업로드할 파일이 없습니다.");
+        }
+
+        // 대기열이 가득 차도 업로드는 성공 (크기별 이미지는 요청할 때 생성)
+        ThumbnailJob job = null;
+        try{
+            job = imageVariantResourceResolver.prebuild(Paths.get(galleryPath, (String)resultMap.get("storedFileName")));
+        }catch(RuntimeException e){
+            log.warn("크기별 이미지 작업 등록 실패 : {} {}", resultMap.get("storedFileName"), e.getMessage());
+        }
+        resultMap.remove("filePath");
+        resultMap.put("thumbnailJob", job == null ? null : job.toResult());
+
+        return ResponseEntity.ok(ApiResponse.ok(resultMap));
+    }
+
+    // 304/sendfile 전송 건수, 메모리 캐시 히트율, 크기별 이미지 생성/실패 건수
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("transfer", imageResourceHandler.getStats());
+        resultMap.put("hotCache", hotImageResourceResolver.getStats());
+        resultMap.put("variant", imageVariantResourceResolver.getStats());
+        return ResponseEntity.ok(ApiResponse.ok(resultMap));
+    }
+}
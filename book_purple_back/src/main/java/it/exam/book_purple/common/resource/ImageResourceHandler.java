@@ -0,0 +1,122 @@
+package it.exam.book_purple.common.resource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import it.exam.book_purple.common.utils.FileUtils;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * /static/imgs 이미지 전송
+ * 해시 파일명(내용이 바뀌면 이름도 바뀜)은 1년 immutable, 나머지는 매번 ETag 로 재검증
+ * ETag 는 해시 파일명이면 해시, 아니면 수정시간+크기 (압축본이면 뒤에 -gzip, -br)
+ * 304, Range(206) 는 ResourceHttpRequestHandler 가 처리하고 여기서는 헤더와 카운터만 담당
+ * 업로드 중 임시파일(.tmp), 참조 수(.ref) 는 같은 폴더에 있지만 404
+ */
+public class ImageResourceHandler extends ResourceHttpRequestHandler {
+
+    // FileUtils.uploadFile 로 저장한 파일명 (sha256.확장자)
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^([0-9a-f]{64})\\.[A-Za-z0-9]+$");
+
+    private static final String RESOURCE_ATTR = ImageResourceHandler.class.getName() + ".resource";
+
+    private static final String IMMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final LongAdder notModifiedCount = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public ImageResourceHandler(){
+        setEtagGenerator(ImageResourceHandler::createEtag);
+        setUseLastModified(true);
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        super.handleRequest(request, response);
+
+        // 304 는 본문 없이 끝나므로 응답이 아직 커밋되지 않음
+        if(response.getStatus() == HttpStatus.NOT_MODIFIED.value()
+                && request.getAttribute(RESOURCE_ATTR) instanceof Resource resource){
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(resource));
+            notModifiedCount.increment();
+            bytesSaved.add(resource.contentLength());
+        }
+    }
+
+    @Override
+    protected Resource getResource(HttpServletRequest request) throws IOException {
+        if(request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE) instanceof String path
+                && FileUtils.isWorkFile(path)){
+            return null;
+        }
+
+        Resource resource = super.getResource(request);
+        if(resource != null){
+            request.setAttribute(RESOURCE_ATTR, resource);
+        }
+        return resource;
+    }
+
+    @Override
+    protected void setHeaders(HttpServletResponse response, Resource resource, MediaType mediaType) throws IOException {
+        super.setHeaders(response, resource, mediaType);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(resource));
+    }
+
+    // 304 로 아낀 전송량
+    public Map<String, Object> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("notModifiedCount", notModifiedCount.sum());
+        resultMap.put("bytesSaved", bytesSaved.sum());
+
+        if(getResourceHttpMessageConverter() instanceof SendfileResourceHttpMessageConverter converter){
+            resultMap.putAll(converter.getStats());
+        }
+        return resultMap;
+    }
+
+    private static String cacheControl(Resource resource){
+        String fileName = resource.getFilename();
+        return fileName != null && CONTENT_ADDRESSED.matcher(fileName).matches() ? IMMUTABLE : REVALIDATE;
+    }
+
+    private static String createEtag(Resource resource){
+        // 압축본은 원본과 파일명이 같아서 인코딩을 붙여 구분
+        String coding = resource instanceof HttpResource httpResource
+                ? httpResource.getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING) : null;
+        String suffix = coding != null ? "-" + coding : "";
+
+        String fileName = resource.getFilename();
+        if(fileName != null){
+            var matcher = CONTENT_ADDRESSED.matcher(fileName);
+            if(matcher.matches()){
+                return matcher.group(1) + suffix;
+            }
+        }
+
+        try{
+            return Long.toHexString(resource.lastModified()) + "-" + Long.toHexString(resource.contentLength()) + suffix;
+        }catch(IOException e){
+            return null;
+        }
+    }
+}
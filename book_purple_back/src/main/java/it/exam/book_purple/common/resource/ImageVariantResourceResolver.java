@@ -0,0 +1,244 @@
+package it.exam.book_purple.common.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import it.exam.book_purple.common.thumbnail.ThumbnailBusyException;
+import it.exam.book_purple.common.thumbnail.ThumbnailJob;
+import it.exam.book_purple.common.thumbnail.ThumbnailJobService;
+import it.exam.book_purple.common.thumbnail.ThumbnailSize;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * /static/imgs/{image}?w=&h= 크기별 이미지
+ * 처음 요청될 때 한번만 만들어서 variant 경로(크기별 폴더)에 저장, 이후에는 저장된 파일 전송
+ * 같은 크기를 동시에 요청하면 한 요청만 만들고 나머지는 결과를 기다림
+ * 만드는 건 썸네일 작업 스레드에서 (동시 변환 수 제한), 바쁘면 404
+ * 만들지 못한 이미지(깨진 파일 등)는 failure-ttl 동안 다시 시도하지 않음
+ * 허용된 크기가 아니면 404
+ */
+@Slf4j
+public class ImageVariantResourceResolver extends AbstractResourceResolver {
+
+    private final ThumbnailJobService thumbnailJobService;
+    private final Path variantPath;
+    private final Set<ThumbnailSize> sizes;
+    private final long timeoutMillis;
+
+    // 원본 위치 확인용 (캐시를 거치지 않고 실제 파일)
+    private final PathResourceResolver originResolver = new PathResourceResolver();
+
+    // 만드는 중인 variant (key : 크기/파일명)
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    // 만들지 못한 variant (key : 크기/파일명, value : 실패 이유)
+    private final Cache<String, String> failures;
+
+    private final LongAdder generatedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder failureHitCount = new LongAdder();
+    private final LongAdder busyCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * @param thumbnailJobService 크기 변환을 실행할 작업 스레드
+     * @param variantPath 만든 이미지 저장 경로
+     * @param sizes 허용 크기
+     * @param timeoutMillis 변환을 기다리는 최대 시간
+     * @param failureTtlMillis 실패한 변환을 다시 시도하지 않는 시간
+     */
+    public ImageVariantResourceResolver(ThumbnailJobService thumbnailJobService, String variantPath, List<ThumbnailSize> sizes,
+                                        long timeoutMillis, long failureTtlMillis){
+        this.thumbnailJobService = thumbnailJobService;
+        this.variantPath = Paths.get(variantPath).toAbsolutePath().normalize();
+        this.sizes = Set.copyOf(sizes);
+        this.timeoutMillis = timeoutMillis;
+        this.failures = Caffeine.newBuilder()
+                            .maximumSize(10_000)
+                            .expireAfterWrite(Duration.ofMillis(failureTtlMillis))
+                            .build();
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+
+        String width = request == null ? null : request.getParameter("w");
+        String height = request == null ? null : request.getParameter("h");
+        if(width == null && height == null){
+            return chain.resolveResource(request, requestPath, locations);
+        }
+
+        ThumbnailSize size = parseSize(width, height);
+        if(size == null || !sizes.contains(size)){
+            rejectedCount.increment();
+            return null;
+        }
+
+        // 하위 경로는 받지 않음 (파일명만)
+        if(requestPath.contains("/") || requestPath.contains("\\")){
+            return null;
+        }
+
+        Path variantFile = variantPath.resolve(size.toString()).resolve(requestPath);
+        if(Files.exists(variantFile)){
+            return new FileSystemResource(variantFile);
+        }
+
+        // 최근에 실패한 변환은 원본을 다시 읽지 않음
+        if(failures.getIfPresent(key(size, variantFile)) != null){
+            failureHitCount.increment();
+            return null;
+        }
+
+        Resource origin = originResolver.resolveResource(request, requestPath, locations, chain);
+        if(origin == null){
+            return null;
+        }
+
+        try{
+            return new FileSystemResource(getOrCreate(origin.getFile(), size, variantFile));
+        }catch(Exception e){
+            // 로그는 만든 요청(getOrCreate)에서 한번만
+            return null;
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    /**
+     * 업로드한 원본의 크기별 이미지를 백그라운드로 미리 생성 (첫 요청에서 변환하지 않도록)
+     * @param path 원본 파일 경로
+     * @return 작업 정보, 허용 크기가 없으면 null
+     */
+    public ThumbnailJob prebuild(Path path){
+        if(sizes.isEmpty()){
+            return null;
+        }
+
+        String fileName = path.getFileName().toString();
+        Map<ThumbnailSize, String> targets = new LinkedHashMap<>();
+        for(ThumbnailSize size : sizes){
+            // 같은 이름으로 다시 올린 파일이면 지난 실패 기록은 무시
+            failures.invalidate(size + "/" + fileName);
+            targets.put(size, size + "/" + fileName);
+        }
+        return thumbnailJobService.submit(path.toFile(), variantPath.toString(), targets);
+    }
+
+    /**
+     * 원본이 삭제되면 크기별 이미지도 삭제
+     * @param path 원본 파일 경로
+     */
+    public void invalidate(Path path){
+        String fileName = path.getFileName().toString();
+        for(ThumbnailSize size : sizes){
+            failures.invalidate(size + "/" + fileName);
+            try{
+                Files.deleteIfExists(variantPath.resolve(size.toString()).resolve(fileName));
+            }catch(IOException e){
+                log.warn("크기별 이미지 삭제 실패 : {} ({})", fileName, size, e);
+            }
+        }
+    }
+
+    public Map<String, Object> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("generatedCount", generatedCount.sum());
+        resultMap.put("coalescedCount", coalescedCount.sum());
+        resultMap.put("rejectedCount", rejectedCount.sum());
+        resultMap.put("failedCount", failedCount.sum());
+        resultMap.put("failureHitCount", failureHitCount.sum());
+        resultMap.put("busyCount", busyCount.sum());
+        resultMap.put("inFlight", inFlight.size());
+        return resultMap;
+    }
+
+    // 먼저 온 요청이 만들고, 같은 variant 를 요청한 나머지는 그 결과를 기다림
+    private Path getOrCreate(File originFile, ThumbnailSize size, Path variantFile) throws Exception{
+        String key = key(size, variantFile);
+
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, created);
+        if(running != null){
+            coalescedCount.increment();
+            return running.join();
+        }
+
+        try{
+            // 기다리는 동안 다른 요청이 이미 만들었을 수 있음
+            if(!Files.exists(variantFile)){
+                create(originFile, size, variantFile);
+                generatedCount.increment();
+            }
+            created.complete(variantFile);
+            return variantFile;
+
+        }catch(ThumbnailBusyException e){
+            // 이미지 문제가 아니라서 실패로 기록하지 않음
+            busyCount.increment();
+            created.completeExceptionally(e);
+            throw e;
+        }catch(Exception e){
+            String reason = rootMessage(e);
+            failures.put(key, reason);
+            failedCount.increment();
+            log.warn("이미지 크기 변환 실패 : {} ({}) {}", variantFile.getFileName(), size, reason);
+            created.completeExceptionally(e);
+            throw e;
+        }finally{
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static String key(ThumbnailSize size, Path variantFile){
+        return size + "/" + variantFile.getFileName();
+    }
+
+    private static String rootMessage(Throwable e){
+        while(e.getCause() != null){
+            e = e.getCause();
+        }
+        return e.toString();
+    }
+
+    // 작업 스레드에서 임시 파일로 만든 뒤 이름 변경 (읽는 쪽에서 만들다 만 파일이 보이지 않음)
+    private void create(File originFile, ThumbnailSize size, Path variantFile) throws Exception{
+        thumbnailJobService.createNow(originFile, variantFile.getParent().toString(),
+                                      Map.of(size, variantFile.getFileName().toString()), timeoutMillis);
+    }
+
+    private static ThumbnailSize parseSize(String width, String height){
+        try{
+            return new ThumbnailSize(Integer.parseInt(width), Integer.parseInt(height));
+        }catch(NumberFormatException e){
+            return null;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package it.exam.book_purple.common.resource;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 미리 만든 압축본(파일명.br, 파일명.gz)이 있으면 Accept-Encoding 에 맞춰 그 파일을 전송
+ * (Content-Encoding, Vary 헤더는 EncodedResourceResolver 가 붙임)
+ * jpg, png 처럼 이미 압축된 형식은 압축본을 찾지 않음 (요청마다 파일 존재 확인을 하지 않도록)
+ */
+public class PrecompressedResourceResolver extends EncodedResourceResolver {
+
+    private final Set<String> extensions;
+
+    /**
+     * @param extensions 압축본을 찾을 확장자 (svg 등)
+     */
+    public PrecompressedResourceResolver(Set<String> extensions){
+        this.extensions = extensions;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        if(!extensions.contains(extensionOf(requestPath))){
+            return chain.resolveResource(request, requestPath, locations);
+        }
+        return super.resolveResourceInternal(request, requestPath, locations, chain);
+    }
+
+    private static String extensionOf(String path){
+        int dot = path.lastIndexOf('.');
+        return dot < 0 || dot < path.lastIndexOf('/') ? "" : path.substring(dot + 1).toLowerCase();
+    }
+}
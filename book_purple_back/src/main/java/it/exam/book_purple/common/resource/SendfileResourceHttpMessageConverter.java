@@ -0,0 +1,75 @@
+package it.exam.book_purple.common.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 큰 파일은 본문을 직접 쓰지 않고 톰캣 sendfile 로 넘김 (커널이 파일 -> 소켓 직접 전송)
+ * 커넥터가 sendfile 을 지원하지 않으면(테스트, HTTPS 등) 기존처럼 스트림 복사
+ */
+public class SendfileResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+    // org.apache.tomcat.util.net.Constants 의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final long threshold;
+
+    private final LongAdder sendfileCount = new LongAdder();
+    private final LongAdder sendfileBytes = new LongAdder();
+
+    /**
+     * @param threshold 이 크기 이상인 파일만 sendfile (작은 파일은 복사가 더 빠름)
+     */
+    public SendfileResourceHttpMessageConverter(long threshold){
+        super(false);
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+        HttpServletRequest request = currentRequest();
+
+        if(request != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED)) && resource.isFile()){
+            File file = resource.getFile();
+            long length = file.length();
+
+            if(length >= threshold){
+                // Content-Length 는 이미 설정됨, 본문은 서블릿이 끝난 뒤 톰캣이 전송
+                request.setAttribute(SENDFILE_FILENAME, file.getAbsolutePath());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, length);
+                sendfileCount.increment();
+                sendfileBytes.add(length);
+                return;
+            }
+        }
+
+        super.writeContent(resource, outputMessage);
+    }
+
+    public Map<String, Object> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("sendfileCount", sendfileCount.sum());
+        resultMap.put("sendfileBytes", sendfileBytes.sum());
+        return resultMap;
+    }
+
+    private static HttpServletRequest currentRequest(){
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest() : null;
+    }
+}
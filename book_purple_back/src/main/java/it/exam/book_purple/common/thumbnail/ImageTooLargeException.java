@@ -0,0 +1,12 @@
+package it.exam.book_purple.common.thumbnail;
+
+/**
+ * 디코딩하면 메모리 한도를 넘는 이미지
+ * 다시 시도해도 결과가 같으므로 재시도하지 않는다
+ */
+public class ImageTooLargeException extends RuntimeException {
+
+    public ImageTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package it.exam.book_purple.common.thumbnail;
+
+/**
+ * 썸네일 작업 스레드가 모두 사용 중이라 바로 처리하지 못함
+ * 이미지 문제가 아니므로 잠시 후 다시 요청하면 된다
+ */
+public class ThumbnailBusyException extends RuntimeException {
+
+    public ThumbnailBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,77 @@
+package it.exam.book_purple.common.thumbnail;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 썸네일 생성 작업 상태
+ * 파일명은 등록할 때 미리 정해두므로 업로드 응답에서 바로 사용할 수 있다
+ */
+@Getter
+public class ThumbnailJob {
+
+    public enum Status {
+        PENDING,    // 대기열
+        RUNNING,    // 생성중
+        RETRY_WAIT, // 실패 후 재시도 대기
+        DONE,
+        FAILED
+    }
+
+    private final String jobId;
+    private final File originFile;
+    private final String thumbPath;
+    // 크기별 썸네일 파일명
+    private final Map<ThumbnailSize, String> thumbFileNames;
+
+    private volatile Status status = Status.PENDING;
+    private volatile int attempts;
+    private volatile String errorMessage;
+
+    public ThumbnailJob(String jobId, File originFile, String thumbPath, Map<ThumbnailSize, String> thumbFileNames) {
+        this.jobId = jobId;
+        this.originFile = originFile;
+        this.thumbPath = thumbPath;
+        this.thumbFileNames = Collections.unmodifiableMap(new LinkedHashMap<>(thumbFileNames));
+    }
+
+    /**
+     * 상태 조회 응답 (서버 경로는 제외)
+     */
+    public Map<String, Object> toResult(){
+        Map<String, String> files = new LinkedHashMap<>();
+        thumbFileNames.forEach((size, fileName) -> files.put(size.toString(), fileName));
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("jobId", jobId);
+        resultMap.put("status", status);
+        resultMap.put("attempts", attempts);
+        resultMap.put("errorMessage", errorMessage);
+        resultMap.put("thumbFileNames", files);
+        return resultMap;
+    }
+
+    void running(){
+        attempts++;
+        status = Status.RUNNING;
+    }
+
+    void done(){
+        errorMessage = null;
+        status = Status.DONE;
+    }
+
+    void retryWait(String message){
+        errorMessage = message;
+        status = Status.RETRY_WAIT;
+    }
+
+    void failed(String message){
+        errorMessage = message;
+        status = Status.FAILED;
+    }
+}
@@ -0,0 +1,40 @@
+package it.exam.book_purple.common.thumbnail;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 썸네일 작업 상태 조회
+ */
+@RestController
+@RequiredArgsConstructor
+public class ThumbnailJobController {
+
+    private final ThumbnailJobService thumbnailJobService;
+
+    /**
+     * 작업 상태 (업로드 응답의 jobId, 끝난 뒤 1시간까지 조회)
+     * @param jobId
+     */
+    @GetMapping("/api/v1/thumbnails/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getJob(@PathVariable String jobId){
+        ThumbnailJob job = thumbnailJobService.getJob(jobId);
+        if(job == null){
+            throw new RuntimeException("없는 썸네일 작업입니다.");
+        }
+        return ResponseEntity.ok(ApiResponse.ok(job.toResult()));
+    }
+
+    // 관리자 : 작업 스레드, 대기열 상태
+    @GetMapping("/api/v1/admin/thumbnails/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(){
+        return ResponseEntity.ok(ApiResponse.ok(thumbnailJobService.getStats()));
+    }
+}
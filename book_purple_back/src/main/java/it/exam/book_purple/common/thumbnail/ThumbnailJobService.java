@@ -0,0 +1,185 @@
+package it.exam.book_purple.common.thumbnail;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import it.exam.book_purple.common.utils.FileUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 썸네일 생성 백그라운드 처리
+ * 업로드 요청에서는 등록만 하고 바로 응답, 실제 생성은 CPU 코어 수만큼의 작업 스레드에서 처리
+ * 실패하면 재시도, 작업 상태는 jobId 로 조회
+ */
+@Service
+@Slf4j
+public class ThumbnailJobService {
+
+    private final FileUtils fileUtils;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retryScheduler;
+
+    // 끝난 작업도 일정 시간 조회할 수 있도록 보관
+    private final Cache<String, ThumbnailJob> jobs;
+
+    public ThumbnailJobService(FileUtils fileUtils,
+                               @Value("${server.file.thumbnail.threads:0}") int threads,
+                               @Value("${server.file.thumbnail.queue-size:200}") int queueSize,
+                               @Value("${server.file.thumbnail.max-attempts:3}") int maxAttempts,
+                               @Value("${server.file.thumbnail.retry-delay:1000}") long retryDelayMillis){
+        this.fileUtils = fileUtils;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+
+        // 0 이면 CPU 코어 수
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(queueSize),
+                            r -> {
+                                Thread t = new Thread(r, "thumbnail-" + seq.incrementAndGet());
+                                t.setDaemon(true);
+                                return t;
+                            },
+                            new ThreadPoolExecutor.AbortPolicy());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                                Thread t = new Thread(r, "thumbnail-retry");
+                                t.setDaemon(true);
+                                return t;
+                            });
+        this.jobs = Caffeine.newBuilder()
+                        .maximumSize(10_000)
+                        .expireAfterWrite(Duration.ofHours(1))
+                        .build();
+    }
+
+    /**
+     * 썸네일 생성 등록
+     * @param originFile 원본 파일
+     * @param thumbPath 저장 경로
+     * @param thumbFileNames 크기별 저장할 파일명 (원본은 한번만 읽음)
+     * @return 작업 정보 (파일명은 미리 정해짐)
+     */
+    public ThumbnailJob submit(File originFile, String thumbPath, Map<ThumbnailSize, String> thumbFileNames){
+
+        String jobId = UUID.randomUUID().toString().replaceAll("-", "");
+        ThumbnailJob job = new ThumbnailJob(jobId, originFile, thumbPath, thumbFileNames);
+
+        jobs.put(jobId, job);
+        try{
+            workers.execute(() -> run(job));
+        }catch(RejectedExecutionException e){
+            jobs.invalidate(jobId);
+            throw new RuntimeException("썸네일 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        return job;
+    }
+
+    /**
+     * 작업 스레드에서 바로 만들고 끝날 때까지 기다림 (요청 중 크기별 이미지 생성)
+     * 동시에 만드는 수가 작업 스레드 수로 제한됨
+     * @param timeoutMillis 기다리는 최대 시간 (넘으면 작업은 계속 진행하고 요청만 포기)
+     * @throws ThumbnailBusyException 대기열이 가득 찼거나 시간 초과
+     */
+    public void createNow(File originFile, String thumbPath, Map<ThumbnailSize, String> targets, long timeoutMillis)
+            throws Exception{
+        Future<?> future;
+        try{
+            future = workers.submit(() -> {
+                fileUtils.thumbNailFiles(originFile, thumbPath, targets);
+                return null;
+            });
+        }catch(RejectedExecutionException e){
+            throw new ThumbnailBusyException("썸네일 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try{
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        }catch(TimeoutException e){
+            throw new ThumbnailBusyException("썸네일 생성 시간이 초과되었습니다.");
+        }catch(ExecutionException e){
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     * @param jobId
+     * @return 없거나 오래된 작업이면 null
+     */
+    public ThumbnailJob getJob(String jobId){
+        return jobs.getIfPresent(jobId);
+    }
+
+    // 대기열 상태
+    public Map<String, Object> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("poolSize", workers.getPoolSize());
+        resultMap.put("activeCount", workers.getActiveCount());
+        resultMap.put("queueDepth", workers.getQueue().size());
+        resultMap.put("completedCount", workers.getCompletedTaskCount());
+        return resultMap;
+    }
+
+    private void run(ThumbnailJob job){
+        job.running();
+
+        try{
+            fileUtils.thumbNailFiles(job.getOriginFile(), job.getThumbPath(), job.getThumbFileNames());
+            job.done();
+
+        }catch(Exception e){
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+
+            // 너무 큰 이미지는 다시 해도 같은 결과
+            if(e instanceof ImageTooLargeException || job.getAttempts() >= maxAttempts){
+                log.error("썸네일 생성 실패 : {} ({}회)", job.getOriginFile().getName(), job.getAttempts(), e);
+                job.failed(message);
+                return;
+            }
+
+            // 시도 횟수만큼 늘려서 재시도
+            job.retryWait(message);
+            retryScheduler.schedule(() -> resubmit(job), retryDelayMillis * job.getAttempts(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void resubmit(ThumbnailJob job){
+        try{
+            workers.execute(() -> run(job));
+        }catch(RejectedExecutionException e){
+            job.failed("썸네일 작업 대기열이 가득 찼습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        retryScheduler.shutdownNow();
+        workers.shutdown();
+    }
+}
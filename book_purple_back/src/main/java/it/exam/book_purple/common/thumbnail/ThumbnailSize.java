@@ -0,0 +1,30 @@
+package it.exam.book_purple.common.thumbnail;
+
+import lombok.Value;
+
+/**
+ * 썸네일 크기 (가로 x 세로)
+ */
+@Value
+public class ThumbnailSize {
+
+    int width;
+    int height;
+
+    /**
+     * "가로x세로" 형식
+     * @param value ex) 200x300
+     */
+    public static ThumbnailSize parse(String value){
+        String[] parts = value.trim().toLowerCase().split("x");
+        if(parts.length != 2){
+            throw new IllegalArgumentException("썸네일 크기 형식이 아닙니다. : " + value);
+        }
+        return new ThumbnailSize(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height;
+    }
+}
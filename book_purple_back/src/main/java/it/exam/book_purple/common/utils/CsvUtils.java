@@ -0,0 +1,82 @@
+package it.exam.book_purple.common.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 한 줄 읽기/쓰기 (RFC 4180, 값 안의 줄바꿈은 지원하지 않음)
+ */
+public final class CsvUtils {
+
+    // 엑셀에서 한글이 깨지지 않도록 파일 앞에 붙이는 UTF-8 BOM
+    public static final char BOM = '\uFEFF';
+
+    private CsvUtils(){
+    }
+
+    /**
+     * 한 줄 -> 값 목록
+     * "" 로 감싼 값 안의 , 와 "" (따옴표) 처리
+     */
+    public static List<String> parseLine(String line){
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for(int i = 0; i < line.length(); i++){
+            char c = line.charAt(i);
+
+            if(quoted){
+                if(c == '"'){
+                    if(i + 1 < line.length() && line.charAt(i + 1) == '"'){
+                        value.append('"');
+                        i++;
+                    }else{
+                        quoted = false;
+                    }
+                }else{
+                    value.append(c);
+                }
+            }else if(c == '"'){
+                quoted = true;
+            }else if(c == ','){
+                values.add(value.toString());
+                value.setLength(0);
+            }else{
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+
+        return values;
+    }
+
+    /**
+     * 값 목록 -> 한 줄 (줄바꿈 포함)
+     * null 은 빈 값, , " 가 있으면 "" 로 감쌈
+     */
+    public static void writeLine(Writer writer, String... values) throws IOException{
+        for(int i = 0; i < values.length; i++){
+            if(i > 0){
+                writer.write(',');
+            }
+            writeValue(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeValue(Writer writer, String value) throws IOException{
+        if(value == null){
+            return;
+        }
+        if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0){
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
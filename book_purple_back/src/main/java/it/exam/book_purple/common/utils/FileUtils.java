@@ -1,78 +1,280 @@
 package it.exam.book_purple.common.utils;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.mortennobel.imagescaling.AdvancedResizeOp;
 import com.mortennobel.imagescaling.MultiStepRescaleOp;
 
+import it.exam.book_purple.common.thumbnail.ImageTooLargeException;
+import it.exam.book_purple.common.thumbnail.ThumbnailSize;
+import lombok.extern.slf4j.Slf4j;
+
 import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 @Component
+@Slf4j
 public class FileUtils {
 
+    // 스트림 -> 파일 한번에 옮기는 크기
+    private static final long TRANSFER_CHUNK = 1024L * 1024;
+
+    // 저장 경로 안에 같이 두는 작업 파일 (이름 변경이 원자적이도록 같은 폴더), 이미지 전송에서 제외
+    public static final String TEMP_SUFFIX = ".tmp";
+    public static final String REF_SUFFIX = ".ref";
+
+    private final Lock[] fileLocks = new Lock[64];
+    {
+        for(int i = 0; i < fileLocks.length; i++){
+            fileLocks[i] = new ReentrantLock();
+        }
+    }
+
+    // 실제 파일이 삭제될 때 알림 (이미지 캐시 등)
+    private final List<Consumer<Path>> deleteListeners = new CopyOnWriteArrayList<>();
+
+    // 썸네일 디코딩에 쓸 수 있는 메모리 (동시에 처리하는 이미지 합계)
+    // 한도와 세마포어는 같이 교체 (처리 중인 작업은 acquire 한 세마포어에 반납)
+    private volatile DecodeBudget decodeBudget = new DecodeBudget(256L * 1024 * 1024);
+
+    @Value("${server.file.thumbnail.decode-budget:268435456}")
+    public void setDecodeBudgetBytes(long decodeBudgetBytes){
+        this.decodeBudget = new DecodeBudget(decodeBudgetBytes);
+    }
+
+    // 1KB 당 permit 1개
+    private record DecodeBudget(long bytes, Semaphore permits){
+        DecodeBudget(long bytes){
+            this(bytes, new Semaphore((int)Math.max(1, bytes / 1024), true));
+        }
+    }
+
+    // 업로드할 때 압축본(.gz)을 만들 확장자, 최소 크기
+    private PrecompressProperties precompressProperties = new PrecompressProperties();
+
+    @Autowired
+    public void setPrecompressProperties(PrecompressProperties precompressProperties){
+        this.precompressProperties = precompressProperties;
+    }
 
     /**
      * 파일 업로드 기능
+     * server.file.upload.memory-threshold 보다 큰 파일은 톰캣이 이미 디스크에 임시 저장한 것을 한번 더 복사함
+     * 큰 파일을 한번만 쓰려면 요청 본문 스트림을 uploadFile 로 바로 전달
      * @param file
      * @param type
      * @throws Exception
      */
     public Map<String, Object> uploadFiles(MultipartFile file, String filePath) throws Exception {
 
-        Map<String, Object> resultMap = new HashMap<>();
-
         if(file == null || file.isEmpty()){
             return null;
         }
 
-        String fileName = file.getOriginalFilename();
-        String extention = fileName.substring(fileName.lastIndexOf(".") + 1);
-        String randName = UUID.randomUUID().toString().replaceAll("-", "").substring(0,16);
-        String storedFileName = randName + "." + extention;
+        try(InputStream in = file.getInputStream()){
+            return uploadFile(in, file.getOriginalFilename(), filePath);
+        }
+    }
 
-        String fullPath = filePath + storedFileName;
+    /**
+     * 스트림 업로드 기능
+     * 받으면서 바로 저장하고 SHA-256 을 계산해서 "해시.확장자" 로 저장
+     * 같은 내용의 파일은 하나만 저장하고 참조 수(.ref)만 늘린다
+     * @param in 요청 스트림 (multipart part, request body 등)
+     * @param fileName 원본 파일명
+     * @param filePath 저장 경로
+     * @throws Exception
+     */
+    public Map<String, Object> uploadFile(InputStream in, String fileName, String filePath) throws Exception {
 
-        File newFile = new File(fullPath);
+        Map<String, Object> resultMap = new HashMap<>();
+
+        String extention = fileName.substring(fileName.lastIndexOf(".") + 1);
 
         // 경로 없으면 만들기
-        if(!newFile.getParentFile().exists()){
-            // 경로 만들어주기
-            newFile.getParentFile().mkdirs();
-        }
+        Path dir = Paths.get(filePath);
+        Files.createDirectories(dir);
+
+        // 같은 경로에 임시파일로 받은 뒤 이름만 바꿈 (복사 없음)
+        Path tempFile = Files.createTempFile(dir, "upload-", TEMP_SUFFIX);
 
-        newFile.createNewFile(); // 빈파일
-        file.transferTo(newFile);
+        try{
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            long fileSize = 0;
 
-        resultMap.put("fileName", fileName);
-        resultMap.put("storedFileName", storedFileName);
-        resultMap.put("filePath", filePath);
+            try(ReadableByteChannel src = Channels.newChannel(new DigestInputStream(in, md));
+                FileChannel dst = FileChannel.open(tempFile, StandardOpenOption.WRITE)){
+
+                long count;
+                while((count = dst.transferFrom(src, fileSize, TRANSFER_CHUNK)) > 0){
+                    fileSize += count;
+                }
+            }
+
+            String fileHash = HexFormat.of().formatHex(md.digest());
+            String storedFileName = fileHash + "." + extention;
+            Path storedFile = dir.resolve(storedFileName);
+
+            boolean created = false;
+            Lock lock = lockFor(storedFileName);
+            lock.lock();
+            try{
+                if(!Files.exists(storedFile)){
+                    Files.move(tempFile, storedFile, StandardCopyOption.ATOMIC_MOVE);
+                    created = true;
+                }
+                addReference(storedFile, !created);
+            }finally{
+                lock.unlock();
+            }
+
+            // 압축은 락 밖에서 (같은 락을 쓰는 다른 업로드/삭제가 기다리지 않도록)
+            if(created){
+                precompress(storedFile, extention, fileSize);
+            }
+
+            resultMap.put("fileName", fileName);
+            resultMap.put("storedFileName", storedFileName);
+            resultMap.put("filePath", filePath);
+            resultMap.put("fileHash", fileHash);
+            resultMap.put("fileSize", fileSize);
+
+        }finally{
+            // 이미 같은 파일이 있으면 임시파일은 삭제
+            Files.deleteIfExists(tempFile);
+        }
 
         return resultMap;
     }
 
     /**
      * 파일 삭제 기능
+     * 참조 수가 남아있으면 참조만 줄이고, 마지막 참조일 때 실제 파일 삭제
      * @param filePath
      * @throws Exception
      */
     public void deleteFile(String filePath) throws Exception{
-        File deleteFile = new File(filePath);
+        Path deleteFile = Paths.get(filePath);
+        Path refFile = refFileOf(deleteFile);
+
+        Lock lock = lockFor(deleteFile.getFileName().toString());
+        lock.lock();
+        try{
+            // 예전 방식(랜덤 이름)으로 올린 파일은 참조 파일이 없음
+            if(Files.exists(refFile)){
+                long refCount = readReference(refFile) - 1;
+                if(refCount > 0){
+                    Files.writeString(refFile, String.valueOf(refCount));
+                    return;
+                }
+                Files.deleteIfExists(refFile);
+            }
 
-        if(deleteFile.exists()){
-            deleteFile.delete();
+            Precompressor.deleteSiblings(deleteFile);
+            if(Files.deleteIfExists(deleteFile)){
+                deleteListeners.forEach(listener -> listener.accept(deleteFile));
+            }
+        }finally{
+            lock.unlock();
         }
     }
 
+    /**
+     * 파일 삭제 알림 등록
+     * @param listener 삭제된 파일 경로를 받음
+     */
+    public void addDeleteListener(Consumer<Path> listener){
+        deleteListeners.add(listener);
+    }
+
+    // 참조 수 +1 (이미 있던 파일인데 참조 파일이 없으면 1부터)
+    private void addReference(Path storedFile, boolean alreadyStored) throws IOException{
+        Path refFile = refFileOf(storedFile);
+        long refCount = Files.exists(refFile) ? readReference(refFile) : (alreadyStored ? 1 : 0);
+        Files.writeString(refFile, String.valueOf(refCount + 1));
+    }
+
+    private long readReference(Path refFile) throws IOException{
+        String value = Files.readString(refFile).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    // 압축본은 없어도 원본으로 전송되므로 실패해도 업로드는 진행
+    private void precompress(Path storedFile, String extention, long fileSize){
+        if(!precompressProperties.isTarget(extention, fileSize)){
+            return;
+        }
+        try{
+            Path gzip = Precompressor.gzip(storedFile);
+            if(gzip == null){
+                return;
+            }
+
+            // 압축하는 동안 원본이 삭제됐으면 압축본도 삭제
+            Lock lock = lockFor(storedFile.getFileName().toString());
+            lock.lock();
+            try{
+                if(!Files.exists(storedFile)){
+                    Files.deleteIfExists(gzip);
+                }
+            }finally{
+                lock.unlock();
+            }
+        }catch(IOException e){
+            log.warn("압축본 생성 실패 : {} ({})", storedFile, e.toString());
+        }
+    }
+
+    private Path refFileOf(Path file){
+        return file.resolveSibling(file.getFileName() + REF_SUFFIX);
+    }
+
+    /**
+     * 임시파일, 참조 수 파일인지 (외부로 전송하면 안되는 파일)
+     * @param fileName 파일명 또는 경로
+     */
+    public static boolean isWorkFile(String fileName){
+        String name = fileName.toLowerCase();
+        return name.endsWith(TEMP_SUFFIX) || name.endsWith(REF_SUFFIX);
+    }
+
+    // 같은 파일명은 같은 락 (가상 스레드 pinning 방지를 위해 synchronized 대신 ReentrantLock)
+    private Lock lockFor(String storedFileName){
+        return fileLocks[(storedFileName.hashCode() & 0x7fffffff) % fileLocks.length];
+    }
+
     /**
      * 썸네일 만들기
      * @param width
@@ -82,52 +284,138 @@ public class FileUtils {
      * @throws Exception
      */
     public String thumbNailFile(int width, int height, File originFile, String thumbPath) throws Exception{
-        String thumbFileName = "";
+        String thumbFileName = createThumbFileName(originFile.getName());
 
-        String fileName = originFile.getName();
-        String extention = fileName.substring(fileName.lastIndexOf(".") + 1);
-        String randName = UUID.randomUUID().toString().replaceAll("-", "").substring(0,16);
-        thumbFileName = randName + "." + extention; 
-
-        try(
-            // 알아서 닫힘 >> try with resources
-            InputStream in = new FileInputStream(originFile);
-            BufferedInputStream bf = new BufferedInputStream(in);
-        ){
-
-            // 원본 이미지 파일 뜨기
-            BufferedImage originImage = ImageIO.read(originFile);
-            // 이미지 사이즈 줄이기
-            MultiStepRescaleOp scaleImage = new MultiStepRescaleOp(width, height);
-            // 마스킹처리
-            scaleImage.setUnsharpenMask(AdvancedResizeOp.UnsharpenMask.Soft);
-            // 리사이즈 이미지 생성
-            BufferedImage resizeImage = scaleImage.filter(originImage, null);
-
-            String thumbFilePath = thumbPath + File.separator + thumbFileName;
-
-            File resizeFile = new File(thumbFilePath);
-            
-             // 경로 없으면 만들기
-            if(!resizeFile.getParentFile().exists()){
-                // 경로 만들어주기
-                resizeFile.getParentFile().mkdirs();
-            }
+        Map<ThumbnailSize, String> targets = new LinkedHashMap<>();
+        targets.put(new ThumbnailSize(width, height), thumbFileName);
+
+        thumbNailFiles(originFile, thumbPath, targets);
+
+        return thumbFileName;
+    }
+
+    /**
+     * 썸네일 여러개 만들기
+     * 원본은 한번만 읽고 크기별로 줄여서 저장
+     * @param originFile
+     * @param thumbPath
+     * @param targets 크기별 저장할 파일명 (thumbPath 기준 상대 경로 가능)
+     * @throws Exception
+     */
+    public void thumbNailFiles(File originFile, String thumbPath, Map<ThumbnailSize, String> targets) throws Exception{
+
+        DecodeBudget budget = decodeBudget;
+        int permits = 0;
 
-            // 리사이즈한 파일을 실제 경로에 생성, 결과를 리턴해줌
-            boolean isWrite = ImageIO.write(resizeImage, extention, resizeFile);
+        try{
 
-            if(!isWrite){
-                throw new RuntimeException("썸네일 생성 오류");
+            ImageReader reader = null;
+
+            try(ImageInputStream in = ImageIO.createImageInputStream(originFile)){
+
+                Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+                if(readers == null || !readers.hasNext()){
+                    throw new RuntimeException("이미지 파일이 아닙니다.");
+                }
+                reader = readers.next();
+                reader.setInput(in, true, true);
+
+                // 헤더만 읽어서 크기 확인
+                int originWidth = reader.getWidth(0);
+                int originHeight = reader.getHeight(0);
+                int subsampling = getSubsampling(originWidth, originHeight, targets.keySet());
+
+                // 디코딩 후 메모리 (픽셀당 4byte), 한도를 넘으면 거절
+                long decodeBytes = (long)ceilDiv(originWidth, subsampling) * ceilDiv(originHeight, subsampling) * 4;
+                if(decodeBytes > budget.bytes()){
+                    throw new ImageTooLargeException("이미지가 너무 큽니다. (" + originWidth + "x" + originHeight + ")");
+                }
+
+                // 동시에 디코딩하는 이미지들의 합이 한도를 넘으면 대기
+                // 대기 중 인터럽트되면 받은 permit 이 없으므로 acquire 가 끝난 뒤에 기록
+                int required = (int)Math.max(1, decodeBytes / 1024);
+                budget.permits().acquire(required);
+                permits = required;
+
+                // 원본 이미지 파일 뜨기 (한번만, 필요한 해상도까지만)
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage originImage = reader.read(0, param);
+
+                for(Map.Entry<ThumbnailSize, String> target : targets.entrySet()){
+                    ThumbnailSize size = target.getKey();
+                    String thumbFileName = target.getValue();
+                    String extention = thumbFileName.substring(thumbFileName.lastIndexOf(".") + 1);
+
+                    // 이미지 사이즈 줄이기
+                    MultiStepRescaleOp scaleImage = new MultiStepRescaleOp(size.getWidth(), size.getHeight());
+                    // 마스킹처리
+                    scaleImage.setUnsharpenMask(AdvancedResizeOp.UnsharpenMask.Soft);
+                    // 리사이즈 이미지 생성
+                    BufferedImage resizeImage = scaleImage.filter(originImage, null);
+
+                    // 경로 없으면 만들기 (파일명에 하위 폴더가 있으면 그 폴더까지)
+                    Path thumbFile = Paths.get(thumbPath).resolve(thumbFileName);
+                    Path dir = thumbFile.getParent();
+                    Files.createDirectories(dir);
+
+                    // 임시파일에 쓴 뒤 이름 변경 (전송/캐시 쪽에서 쓰다 만 파일이 보이지 않도록)
+                    Path tempFile = Files.createTempFile(dir, "thumb-", TEMP_SUFFIX);
+                    try{
+                        boolean isWrite = ImageIO.write(resizeImage, extention, tempFile.toFile());
+
+                        if(!isWrite){
+                            throw new RuntimeException("썸네일 생성 오류");
+                        }
+                        Files.move(tempFile, thumbFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    }finally{
+                        Files.deleteIfExists(tempFile);
+                    }
+                }
+
+            }finally{
+                if(reader != null){
+                    reader.dispose();
+                }
             }
 
+        }catch(ImageTooLargeException e){
+            throw e;
         }catch(Exception e){
-            thumbFileName = null;
-            e.printStackTrace();
-            throw new RuntimeException("썸네일 생성 오류");
+            throw new RuntimeException("썸네일 생성 오류", e);
+        }finally{
+            if(permits > 0){
+                budget.permits().release(permits);
+            }
         }
+    }
 
-        return thumbFileName;
+    /**
+     * 디코딩 시 건너뛸 픽셀 간격
+     * 가장 큰 썸네일의 2배 이상은 남겨서 축소 품질은 유지
+     */
+    private int getSubsampling(int originWidth, int originHeight, Iterable<ThumbnailSize> sizes){
+        int maxWidth = 1;
+        int maxHeight = 1;
+        for(ThumbnailSize size : sizes){
+            maxWidth = Math.max(maxWidth, size.getWidth());
+            maxHeight = Math.max(maxHeight, size.getHeight());
+        }
+        return Math.max(1, Math.min(originWidth / (maxWidth * 2), originHeight / (maxHeight * 2)));
+    }
+
+    private static int ceilDiv(int value, int divisor){
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * 썸네일 파일명 (랜덤 + 원본 확장자)
+     * @param fileName 원본 파일명
+     */
+    public String createThumbFileName(String fileName){
+        String extention = fileName.substring(fileName.lastIndexOf(".") + 1);
+        String randName = UUID.randomUUID().toString().replaceAll("-", "").substring(0,16);
+        return randName + "." + extention;
     }
 
 
@@ -0,0 +1,112 @@
+package it.exam.book_purple.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import it.exam.book_purple.security.dto.TokenClaimsDTO;
+
+/**
+ * 검증이 끝난 JWT 캐시
+ * 같은 토큰이 다시 들어오면 서명 검증, 클레임 디코딩 없이 바로 꺼내 쓴다
+ * 키는 토큰 원문 대신 SHA-256 다이제스트, 만료는 토큰의 exp 를 따른다
+ */
+@Component
+public class JWTTokenCache {
+
+    private final JWTUtils jwtUtils;
+    private final boolean enabled;
+    private final Cache<String, TokenClaimsDTO> cache;
+
+    public JWTTokenCache(JWTUtils jwtUtils,
+                         @Value("${spring.jwt.cache.enabled:false}") boolean enabled,
+                         @Value("${spring.jwt.cache.max-size:10000}") long maxSize){
+        this.jwtUtils = jwtUtils;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfter(new TokenExpiry())
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * 캐시에 있으면 바로 리턴, 없으면 검증 후 저장
+     * @param token
+     * @return 유효하지 않은 토큰이면 null (캐시에 저장하지 않음)
+     */
+    public TokenClaimsDTO parseToken(String token){
+        if(!enabled || token == null){
+            return jwtUtils.parseToken(token);
+        }
+        return cache.get(digest(token), key -> jwtUtils.parseToken(token));
+    }
+
+    // 특정 토큰 제거 (로그아웃, 폐기 등)
+    public void invalidate(String token){
+        if(token != null){
+            cache.invalidate(digest(token));
+        }
+    }
+
+    public void invalidateAll(){
+        cache.invalidateAll();
+    }
+
+    // 히트/미스/제거 카운터
+    public Map<String, Object> getStats(){
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("enabled", enabled);
+        resultMap.put("size", cache.estimatedSize());
+        resultMap.put("hitCount", stats.hitCount());
+        resultMap.put("missCount", stats.missCount());
+        resultMap.put("evictionCount", stats.evictionCount());
+        resultMap.put("hitRate", stats.hitRate());
+
+        return resultMap;
+    }
+
+    private static String digest(String token){
+        try{
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        }catch(NoSuchAlgorithmException e){
+            // SHA-256 은 모든 JVM 에서 지원
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 엔트리별 만료시간 = 토큰 exp - 현재시간
+    private static class TokenExpiry implements Expiry<String, TokenClaimsDTO> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaimsDTO value, long currentTime) {
+            long remainMillis = value.getExpiration() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaimsDTO value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaimsDTO value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
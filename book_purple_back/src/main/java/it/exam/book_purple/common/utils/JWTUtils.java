@@ -1,8 +1,8 @@
 package it.exam.book_purple.common.utils;
 
 import java.nio.charset.StandardCharsets;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -10,10 +10,14 @@ import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import it.exam.book_purple.security.dto.TokenClaimsDTO;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -25,79 +29,116 @@ public class JWTUtils {
 
     private SecretKey secretKey;
 
+    // 파서는 thread-safe 하므로 한번만 만들어서 재사용
+    private JwtParser jwtParser;
+
     public JWTUtils(@Value("${spring.jwt.secretKey}")String secret){
         // JWT 토큰을 만들기 위한 비공개키를 HS256 알고리즘을 통해 생성
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), 
                     Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
+    // 리프레시 토큰 유효시간 24시간 (초), 쿠키 maxAge 도 같은 값
+    public static final long REFRESH_TOKEN_EXPIRE_TIME = 86400L;
+
     // 사용자 아이디, 권한, 이름, 지속시간(분)
     public String createJWT(String category, String userId, 
                             String userName, String userRole, Long mins){
+        return build(category, null, userId, userName, userRole, mins * 60_000L);
+    }
+
+    /**
+     * 리프레시 토큰 발급 (유효시간 REFRESH_TOKEN_EXPIRE_TIME)
+     * 같은 로그인에서 재발급된 토큰은 같은 family 를 가진다 (재사용이 발견되면 family 전체 폐기)
+     * @param family 재발급이면 기존 토큰의 family, 새 로그인이면 null
+     */
+    public String createRefreshJWT(String family, String userId, String userName, String userRole){
+        return build("refresh", family == null ? UUID.randomUUID().toString() : family,
+                     userId, userName, userRole, REFRESH_TOKEN_EXPIRE_TIME * 1000L);
+    }
+
+    private String build(String category, String family, String userId,
+                         String userName, String userRole, long expireMillis){
+
+        long now = System.currentTimeMillis();
 
         return Jwts.builder()
+               .id(UUID.randomUUID().toString())
                .claim("category", category)
+               .claim("family", family)
                .claim("userId", userId)
                .claim("userName", userName)
                .claim("userRole", userRole)
-               .issuedAt(Timestamp.valueOf(LocalDateTime.now()))
-               .expiration(Timestamp.valueOf(LocalDateTime.now().plusMinutes(mins)))
+               .issuedAt(new Date(now))
+               .expiration(new Date(now + expireMillis))
                .signWith(secretKey)
                .compact();
     }
 
-    // JWT 토큰 유효성 체크
-    public boolean validateToken(String token){
+    /**
+     * 토큰을 한번만 검증하고 클레임을 꺼낸다
+     * @param token
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public TokenClaimsDTO parseToken(String token){
         try{
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
-        }catch(SecurityException | MalformedJwtException e){
-            log.error("유효하지 않은 JWT 서명입니다.");
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+
+            return new TokenClaimsDTO(
+                        claims.getId(),
+                        claims.get("category", String.class),
+                        claims.get("family", String.class),
+                        claims.get("userId", String.class),
+                        claims.get("userName", String.class),
+                        claims.get("userRole", String.class),
+                        claims.getExpiration().getTime());
+
         }catch(ExpiredJwtException e){
             log.error("만료된 JWT 토큰입니다.");
         }catch(UnsupportedJwtException e){
             log.error("지원되지 않는 JWT 토큰입니다.");
-        }catch(IllegalCallerException e){
+        }catch(MalformedJwtException | io.jsonwebtoken.security.SecurityException e){
+            log.error("유효하지 않은 JWT 서명입니다.");
+        }catch(JwtException | IllegalArgumentException e){
             log.error("잘못된 JWT 토큰입니다.");
         }
-        return false;
+        return null;
+    }
+
+    // JWT 토큰 유효성 체크
+    public boolean validateToken(String token){
+        return parseToken(token) != null;
     }
 
     // 토큰 카테고리 분석
     public String getCategory(String token){
-        return Jwts.parser().verifyWith(secretKey)
-                   .build().parseSignedClaims(token)
-                   .getPayload().get("category", String.class);
+        return getClaims(token).get("category", String.class);
     }
 
     // 아이디 추출
     public String getUserId(String token){
-        return Jwts.parser().verifyWith(secretKey)
-                   .build().parseSignedClaims(token)
-                   .getPayload().get("userId", String.class);
+        return getClaims(token).get("userId", String.class);
     }
 
     // 이름 추출
     public String getUserName(String token){
-        return Jwts.parser().verifyWith(secretKey)
-                   .build().parseSignedClaims(token)
-                   .getPayload().get("userName", String.class);
+        return getClaims(token).get("userName", String.class);
     }
 
     // 권한 추출
     public String getUserRole(String token){
-        return Jwts.parser().verifyWith(secretKey)
-                   .build().parseSignedClaims(token)
-                   .getPayload().get("userRole", String.class);
+        return getClaims(token).get("userRole", String.class);
     }
 
     // 유효시간 추출
     public boolean getExpired(String token){
         // 현재시간이 유효시간보다 이전인지 체크
-        return Jwts.parser().verifyWith(secretKey)
-                   .build().parseSignedClaims(token)
-                   .getPayload().getExpiration().before(Timestamp.valueOf(LocalDateTime.now()));
+        return getClaims(token).getExpiration().before(new Date());
     }
 
+    private Claims getClaims(String token){
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
 
 }
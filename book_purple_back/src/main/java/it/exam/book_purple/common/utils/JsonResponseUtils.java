@@ -0,0 +1,107 @@
+package it.exam.book_purple.common.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 필터에서 JSON 응답을 보내기 위한 유틸
+ * 객체 트리를 만들지 않고 출력 스트림에 바로 쓴다
+ * 내용이 고정된 응답은 미리 byte[] 로 만들어 둔 것을 그대로 쓴다
+ */
+public final class JsonResponseUtils {
+
+    private static final String CONTENT_TYPE = "application/json";
+
+    // thread-safe, 출력 스트림은 닫지 않음 (컨테이너가 관리)
+    private static final JsonFactory FACTORY =
+            JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+    private JsonResponseUtils(){
+    }
+
+    /**
+     * 응답 본문 작성
+     */
+    @FunctionalInterface
+    public interface JsonBody {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    /**
+     * 고정된 응답 본문을 미리 인코딩
+     * @param body
+     * @return UTF-8 JSON
+     */
+    public static byte[] encode(JsonBody body){
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        try{
+            writeTo(out, body);
+        }catch(IOException e){
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {"resultMsg": resultMsg, "status": status} 형태를 미리 인코딩
+     */
+    public static byte[] encodeResult(String resultMsg, int status){
+        return encode(gen -> {
+            gen.writeStringField("resultMsg", resultMsg);
+            gen.writeNumberField("status", status);
+        });
+    }
+
+    /**
+     * 미리 인코딩된 본문 전송
+     * @param response
+     * @param status
+     * @param body encodeResult 로 만든 값
+     */
+    public static void write(HttpServletResponse response, int status, byte[] body) throws IOException{
+        prepare(response, status);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * {"resultMsg": resultMsg, "status": status} 스트리밍 전송
+     */
+    public static void writeResult(HttpServletResponse response, int status, String resultMsg) throws IOException{
+        write(response, status, gen -> {
+            gen.writeStringField("resultMsg", resultMsg);
+            gen.writeNumberField("status", status);
+        });
+    }
+
+    /**
+     * 본문을 출력 스트림에 바로 작성
+     * 최상위 { } 는 여기서 열고 닫는다
+     */
+    public static void write(HttpServletResponse response, int status, JsonBody body) throws IOException{
+        prepare(response, status);
+        writeTo(response.getOutputStream(), body);
+    }
+
+    private static void writeTo(OutputStream out, JsonBody body) throws IOException{
+        try(JsonGenerator gen = FACTORY.createGenerator(out, JsonEncoding.UTF8)){
+            gen.writeStartObject();
+            body.write(gen);
+            gen.writeEndObject();
+        }
+    }
+
+    private static void prepare(HttpServletResponse response, int status){
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+    }
+}
@@ -0,0 +1,38 @@
+package it.exam.book_purple.common.utils;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+
+/**
+ * 압축본(.gz) 설정 (server.file.precompress)
+ * 업로드할 때 만드는 쪽(FileUtils)과 전송할 때 찾는 쪽(WebConfig)이 같은 값을 사용
+ */
+@Getter
+@ConfigurationProperties(prefix = "server.file.precompress")
+public class PrecompressProperties {
+
+    // 압축본을 만들고 찾을 확장자 (svg 등 텍스트 형식, 소문자), 비어 있으면 사용 안함
+    private Set<String> extensions = Set.of();
+
+    // 이보다 작은 파일은 압축하지 않음 (byte)
+    private long minSize = 1024;
+
+    public void setExtensions(Set<String> extensions){
+        this.extensions = extensions.stream()
+                            .map(extension -> extension.trim().toLowerCase())
+                            .filter(extension -> !extension.isEmpty())
+                            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void setMinSize(long minSize){
+        this.minSize = minSize;
+    }
+
+    public boolean isTarget(String extension, long fileSize){
+        return fileSize >= minSize && extensions.contains(extension.toLowerCase());
+    }
+}
@@ -0,0 +1,69 @@
+package it.exam.book_purple.common.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 정적 파일 압축본 미리 만들기 (파일명.gz)
+ * 요청마다 압축하지 않고 EncodedResourceResolver 가 Accept-Encoding 에 맞는 압축본을 그대로 전송
+ * 압축은 한번이라 가장 높은 레벨(9) 사용 (업로드 시 파일 락 밖에서 실행)
+ * 임시파일은 원본과 같은 폴더 (.tmp 는 이미지 전송에서 제외)
+ * .br 은 순수 자바 인코더가 없어 만들지 않음 (배포 시 brotli 로 만들어 두면 같이 전송됨)
+ */
+public final class Precompressor {
+
+    // 압축해도 이 비율보다 크면 의미가 없어서 저장 안함
+    private static final double MAX_RATIO = 0.9;
+
+    private static final List<String> EXTENSIONS = List.of(".gz", ".br");
+
+    private Precompressor(){
+    }
+
+    /**
+     * 압축본 만들기
+     * @param file 원본
+     * @return 저장했으면 압축본 경로, 줄어들지 않으면 null
+     */
+    public static Path gzip(Path file) throws IOException{
+        Path target = file.resolveSibling(file.getFileName() + ".gz");
+        Path tempFile = Files.createTempFile(file.getParent(), "gzip-", FileUtils.TEMP_SUFFIX);
+
+        try{
+            try(InputStream in = Files.newInputStream(file);
+                OutputStream out = new MaxGZIPOutputStream(Files.newOutputStream(tempFile))){
+                in.transferTo(out);
+            }
+
+            if(Files.size(tempFile) > Files.size(file) * MAX_RATIO){
+                return null;
+            }
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return target;
+
+        }finally{
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // 원본을 지울 때 압축본도 삭제
+    public static void deleteSiblings(Path file) throws IOException{
+        for(String extension : EXTENSIONS){
+            Files.deleteIfExists(file.resolveSibling(file.getFileName() + extension));
+        }
+    }
+
+    private static class MaxGZIPOutputStream extends GZIPOutputStream {
+        MaxGZIPOutputStream(OutputStream out) throws IOException{
+            super(out, 8192);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
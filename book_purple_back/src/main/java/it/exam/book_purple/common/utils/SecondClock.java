@@ -0,0 +1,40 @@
+package it.exam.book_purple.common.utils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 현재시간 문자열을 초 단위로 캐시
+ * 응답마다 시간을 포맷하지 않고 같은 초 안에서는 만들어 둔 문자열을 그대로 사용 (1초에 한번만 포맷)
+ */
+public final class SecondClock {
+
+    private final Clock clock;
+    private final DateTimeFormatter formatter;
+
+    // 초와 문자열을 한 객체로 바꿔 끼워서 lock 없이 읽음
+    private volatile Tick last;
+
+    private record Tick(long epochSecond, String text) {}
+
+    public SecondClock(Clock clock, DateTimeFormatter formatter){
+        this.clock = clock;
+        this.formatter = formatter;
+    }
+
+    public String now(){
+        long epochSecond = Math.floorDiv(clock.millis(), 1000L);
+
+        Tick tick = last;
+        if(tick != null && tick.epochSecond() == epochSecond){
+            return tick.text();
+        }
+
+        // 초가 바뀐 첫 호출만 포맷 (여러 스레드가 같이 만들어도 결과는 같음)
+        String text = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), clock.getZone()).format(formatter);
+        last = new Tick(epochSecond, text);
+        return text;
+    }
+}
@@ -2,23 +2,27 @@ package it.exam.book_purple.common.utils;
 
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Component
 public class TimeFormatUtils {
 
-    private static final String DATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 응답 시간 (ApiResponse, ErrorResponse) 은 초 단위라 캐시한 문자열 사용
+    private static final SecondClock CLOCK = new SecondClock(Clock.systemDefaultZone(), DATETIME_FORMAT);
 
 
     //형변환 현재시간 -> String 
     public static String getDateTime(){
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern(DATETIME_FORMAT));
+        return CLOCK.now();
     }
 
 
     //형변환 time -> String
     public static String getDateTime(LocalDateTime time){
-        return time.format(DateTimeFormatter.ofPattern(DATETIME_FORMAT));
+        return time.format(DATETIME_FORMAT);
     }
 }
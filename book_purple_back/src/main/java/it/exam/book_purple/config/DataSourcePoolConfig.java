@@ -0,0 +1,52 @@
+package it.exam.book_purple.config;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import it.exam.book_purple.common.jdbc.AdaptivePoolSizer;
+import it.exam.book_purple.common.jdbc.PoolTelemetry;
+
+/**
+ * 커넥션 풀 지표, 크기 자동 조절
+ */
+@Configuration
+public class DataSourcePoolConfig {
+
+    @Bean
+    public PoolTelemetry poolTelemetry(){
+        return new PoolTelemetry();
+    }
+
+    // 풀이 시작되기 전에 지표 수집기 등록
+    @Bean
+    public static BeanPostProcessor poolTelemetryPostProcessor(ObjectProvider<PoolTelemetry> poolTelemetry){
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if(bean instanceof HikariDataSource hikari){
+                    PoolTelemetry telemetry = poolTelemetry.getObject();
+                    hikari.setMetricsTrackerFactory(telemetry);
+                    telemetry.bind(hikari);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.datasource.adaptive.enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(PoolTelemetry poolTelemetry,
+                                               @Value("${spring.datasource.adaptive.min-size:5}") int minSize,
+                                               @Value("${spring.datasource.adaptive.target-wait:5}") long targetWait,
+                                               @Value("${spring.datasource.adaptive.low-utilization:0.5}") double lowUtilization,
+                                               @Value("${spring.datasource.adaptive.shrink-after:3}") int shrinkAfter){
+        return new AdaptivePoolSizer(poolTelemetry, minSize, targetWait, lowUtilization, shrinkAfter);
+    }
+}
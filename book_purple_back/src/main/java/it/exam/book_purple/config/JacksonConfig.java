@@ -0,0 +1,17 @@
+package it.exam.book_purple.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JacksonConfig {
+
+    // Module 빈은 스프링이 만드는 ObjectMapper 에 자동 등록됨
+    // getter 를 LambdaMetafactory 로 만든 함수로 호출 (응답 DTO 마다 리플렉션 호출 안함)
+    @Bean
+    public BlackbirdModule blackbirdModule(){
+        return new BlackbirdModule();
+    }
+}
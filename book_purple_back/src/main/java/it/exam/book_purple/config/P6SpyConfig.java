@@ -1,21 +1,27 @@
 package it.exam.book_purple.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import it.exam.book_purple.common.listener.P6SpyEventListener;
+import it.exam.book_purple.common.listener.SqlMetricsListener;
 
 
+/**
+ * p6spy 설정
+ * p6spy 자체 로그(SQL 마다 포맷)는 끄고 (decorator.datasource.p6spy.enable-logging: false)
+ * SqlMetricsListener 로 지표만 수집, 상세 로그는 필요할 때 켬
+ */
 @Configuration
 public class P6SpyConfig {
 
     @Bean
-    public P6SpyEventListener pSpyEventListener(){
-        return new P6SpyEventListener();
-    }
-
-    @Bean
-    public P6sypSqlFormater p6sypSqlFormater(){
-        return new P6sypSqlFormater();
+    public SqlMetricsListener sqlMetricsListener(@Value("${spring.sql.metrics.enabled:true}") boolean enabled,
+                                                 @Value("${spring.sql.metrics.detailed:false}") boolean detailed,
+                                                 @Value("${spring.sql.metrics.slow-threshold:500}") long slowThreshold,
+                                                 @Value("${spring.sql.metrics.slow-log-interval:1000}") long slowLogInterval,
+                                                 @Value("${spring.sql.metrics.slow-samples:100}") int slowSamples,
+                                                 @Value("${spring.sql.metrics.max-fingerprints:500}") int maxFingerprints){
+        return new SqlMetricsListener(enabled, detailed, slowThreshold, slowLogInterval, slowSamples, maxFingerprints);
     }
 }
@@ -7,16 +7,19 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
+/**
+ * SQL 상세 로그 포맷 (SqlMetricsListener 의 detailed 모드에서만 사용)
+ */
 public class P6sypSqlFormater implements MessageFormattingStrategy{
 
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared,
             String sql, String url) {
 
         sql = formatSql(category, sql);
-        LocalDateTime currentDate = LocalDateTime.now();
-        String nowDate = currentDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        String nowDate = LocalDateTime.now().format(DATETIME_FORMATTER);
         return nowDate + " | OperationTime : " + elapsed + "ms | " + sql;        
     }
 
@@ -0,0 +1,49 @@
+package it.exam.book_purple.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import it.exam.book_purple.security.crypto.OffloadedPasswordEncoder;
+import it.exam.book_purple.security.crypto.PasswordVerifyExecutor;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    @Value("${spring.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    // 호출한 스레드에서 바로 암호화 (회원 일괄 등록처럼 로그인 검증 풀을 쓰면 안되는 곳)
+    // {bcrypt} prefix 가 없는 기존 해시도 비교 가능
+    @Bean
+    public DelegatingPasswordEncoder delegatingPasswordEncoder(){
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt)){
+            // prefix 만 없는 bcrypt 해시는 다시 저장하지 않고, cost 가 설정보다 낮은 bcrypt 해시만 교체
+            @Override
+            public boolean upgradeEncoding(String encodedPassword){
+                String hash = encodedPassword != null && encodedPassword.startsWith(BCRYPT_PREFIX)
+                                ? encodedPassword.substring(BCRYPT_PREFIX.length()) : encodedPassword;
+                return hash != null && hash.startsWith("$2") && bcrypt.upgradeEncoding(hash);
+            }
+        };
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+
+    // 로그인용 패스워드 암호화 객체, 검증은 전용 스레드풀에서 실행
+    @Bean
+    @Primary
+    public PasswordEncoder bcyPasswordEncoder(PasswordVerifyExecutor verifyExecutor){
+        return new OffloadedPasswordEncoder(delegatingPasswordEncoder(), verifyExecutor);
+    }
+}
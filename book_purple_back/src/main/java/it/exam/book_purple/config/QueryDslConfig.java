@@ -0,0 +1,23 @@
+package it.exam.book_purple.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Configuration
+public class QueryDslConfig {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Hibernate 6 에서는 HQLTemplates 의 결과 변환이 맞지 않아 JPQL 기본 템플릿 사용
+    @Bean
+    public JPAQueryFactory jpaQueryFactory(){
+        return new JPAQueryFactory(JPQLTemplates.DEFAULT, entityManager);
+    }
+}
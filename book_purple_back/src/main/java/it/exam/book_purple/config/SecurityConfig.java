@@ -1,8 +1,10 @@
 package it.exam.book_purple.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -12,20 +14,31 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.security.web.session.DisableEncodeUrlFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import it.exam.book_purple.common.metrics.MetricsScrapeFilter;
+import it.exam.book_purple.common.metrics.PhaseTimingFilter;
+import it.exam.book_purple.common.metrics.RequestMetrics;
+import it.exam.book_purple.common.metrics.RequestMetricsController;
+import it.exam.book_purple.common.metrics.RequestMetricsFilter;
+import it.exam.book_purple.common.metrics.RequestPhase;
+import it.exam.book_purple.common.utils.CookieUtils;
+import it.exam.book_purple.common.utils.JWTTokenCache;
 import it.exam.book_purple.common.utils.JWTUtils;
 import it.exam.book_purple.filter.CustomLogoutFilter;
 import it.exam.book_purple.filter.JWTFilter;
 import it.exam.book_purple.filter.LoginFilter;
+import it.exam.book_purple.filter.RefreshTokenFilter;
 import it.exam.book_purple.security.service.UserServiceDetails;
+import it.exam.book_purple.security.store.TokenRevocationStore;
 import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
@@ -40,16 +53,43 @@ public class SecurityConfig {
 
     private final UserServiceDetails serviceDetails;
     private final JWTUtils jwtUtils;
+    private final JWTTokenCache tokenCache;
+    private final TokenRevocationStore revocationStore;
+    private final CookieUtils cookieUtils;
+    private final PasswordEncoder passwordEncoder;
+    private final RequestMetrics requestMetrics;
+
+    @Value("${spring.metrics.scrape.token:}")
+    private String scrapeToken;
+
+    @Value("${spring.metrics.scrape.allowed-ips:}")
+    private List<String> scrapeAllowedIps;
 
     // 시큐리티 우선 무시하기
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer(){
         return web -> 
                 web.ignoring()
-                .requestMatchers("/static/img/**")
+                .requestMatchers("/static/imgs/**")
                 .requestMatchers(PathRequest.toStaticResources().atCommonLocations());  
     }
 
+    // Prometheus 수집 경로 : JWT 대신 고정 토큰 + 허용 IP (아래 체인보다 먼저 확인)
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http) throws Exception{
+        http.securityMatcher(RequestMetricsController.SCRAPE_PATH)
+            .csrf(AbstractHttpConfigurer::disable)
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .formLogin(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable)
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasAuthority(MetricsScrapeFilter.ROLE))
+            .addFilterBefore(new MetricsScrapeFilter(scrapeToken, scrapeAllowedIps), UsernamePasswordAuthenticationFilter.class)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception{
 
@@ -73,15 +113,24 @@ public class SecurityConfig {
                     auth.dispatcherTypeMatchers(DispatcherType.FORWARD).permitAll()
                         .requestMatchers("/api/v1/login/**").permitAll()
                         .requestMatchers("/api/v1/logout/**").permitAll()
-                        .requestMatchers("/api/v1/refresh").permitAll()
+                        .requestMatchers(RefreshTokenFilter.REFRESH_URI).permitAll()
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
 
-            // 필터 순서 설정           
-            ).addFilterBefore(new JWTFilter(jwtUtils), LoginFilter.class)
+            // 필터 순서 설정
+            // 요청 지표 : 맨 앞에서 전체 시간, JWT / 로그인 / 재발급 / 로그아웃 필터는 감싸서 자체 시간, 보안 필터 뒤(컨트롤러) 시간
+            ).addFilterBefore(new RequestMetricsFilter(requestMetrics), DisableEncodeUrlFilter.class)
+            .addFilterBefore(PhaseTimingFilter.self(RequestPhase.JWT, new JWTFilter(tokenCache, revocationStore)),
+                             UsernamePasswordAuthenticationFilter.class)
             // UsernamePasswordAuthenticationFilter 대신 Loginfilter를 실행해라
             // Loginfilter에 UsernamePasswordAuthenticationFilter 상속받음
-            .addFilterAt(loginfilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterBefore(new CustomLogoutFilter(jwtUtils), LogoutFilter.class)
+            .addFilterAt(PhaseTimingFilter.self(RequestPhase.LOGIN, loginfilter), UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(PhaseTimingFilter.downstream(RequestPhase.CONTROLLER), AuthorizationFilter.class)
+            .addFilterBefore(PhaseTimingFilter.self(RequestPhase.LOGOUT, new CustomLogoutFilter(jwtUtils, tokenCache, revocationStore)),
+                             LogoutFilter.class)
+            // 만료된 access 토큰이 같이 오므로 JWTFilter 보다 앞에서 재발급 처리
+            .addFilterBefore(PhaseTimingFilter.self(RequestPhase.REFRESH, new RefreshTokenFilter(jwtUtils, revocationStore, cookieUtils)),
+                             LogoutFilter.class)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .logout(withDefaults());
 
@@ -92,16 +141,12 @@ public class SecurityConfig {
     @Bean
     public AuthenticationProvider authProvider(){
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(serviceDetails);
-        provider.setPasswordEncoder(bcyPasswordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        // 로그인 성공 시 예전 해시(낮은 cost)는 새 설정으로 다시 저장
+        provider.setUserDetailsPasswordService(serviceDetails);
         return provider;
     }
 
-    // 패스워드 암호화 객체 설정
-    @Bean
-    public PasswordEncoder bcyPasswordEncoder(){
-        return new BCryptPasswordEncoder();
-    }
-
     // 로그인필터가 매니저를 가지고 일을 해서 필요함
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception{
@@ -0,0 +1,52 @@
+package it.exam.book_purple.config;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import it.exam.book_purple.common.jdbc.ConnectionPermitDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true)
+ * 톰캣 요청 처리, applicationTaskExecutor, @Scheduled 는 스프링 부트가 가상 스레드로 바꿔준다
+ * 여기서는 DB 커넥션 수만큼만 동시에 DB 를 쓰도록 제한만 추가
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPermitPostProcessor(){
+        return new ConnectionPermitPostProcessor();
+    }
+
+    @Slf4j
+    static class ConnectionPermitPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+        private long timeoutMillis;
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            // 기본값은 Hikari connection-timeout 과 동일
+            this.timeoutMillis = environment.getProperty("spring.datasource.permit.timeout", Long.class,
+                    environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L));
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if(bean instanceof HikariDataSource hikari){
+                int permits = hikari.getMaximumPoolSize();
+                log.info("가상 스레드 모드 : DB 커넥션 permit {}개", permits);
+                return new ConnectionPermitDataSource(hikari, permits, timeoutMillis);
+            }
+            return bean;
+        }
+    }
+}
@@ -1,30 +1,124 @@
 package it.exam.book_purple.config;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import jakarta.servlet.MultipartConfigElement;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.util.unit.DataSize;
 import org.springframework.util.unit.DataUnit;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolver;
+
+import it.exam.book_purple.common.logging.TraceIdFilter;
+import it.exam.book_purple.common.resource.HotImageResourceResolver;
+import it.exam.book_purple.common.resource.ImageResourceHandler;
+import it.exam.book_purple.common.resource.ImageVariantResourceResolver;
+import it.exam.book_purple.common.resource.PrecompressedResourceResolver;
+import it.exam.book_purple.common.resource.SendfileResourceHttpMessageConverter;
+import it.exam.book_purple.common.thumbnail.ThumbnailJobService;
+import it.exam.book_purple.common.thumbnail.ThumbnailSize;
+import it.exam.book_purple.common.utils.FileUtils;
+import it.exam.book_purple.common.utils.PrecompressProperties;
 
 @Configuration
+@EnableConfigurationProperties(PrecompressProperties.class)
 public class WebConfig implements WebMvcConfigurer{
 
     @Value("${server.file.gallery.path}")
     private String filePath;
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/static/imgs/**")
-            .addResourceLocations("file:" + filePath )
-            .setCachePeriod(0)
-            .resourceChain(true)
-            .addResolver(new PathResourceResolver());
+    @Value("${server.file.gallery.sendfile-threshold:49152}")
+    private long sendfileThreshold;
+
+    @Value("${server.file.gallery.cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Value("${server.file.gallery.cache.max-bytes:67108864}")
+    private long cacheMaxBytes;
+
+    @Value("${server.file.gallery.cache.max-entry-bytes:2097152}")
+    private long cacheMaxEntryBytes;
+
+    @Value("${server.file.upload.memory-threshold:1048576}")
+    private long uploadMemoryThreshold;
+
+    @Value("${server.file.gallery.variant.path}")
+    private String variantPath;
 
+    @Value("${server.file.gallery.variant.sizes:}")
+    private List<String> variantSizes;
+
+    @Value("${server.file.gallery.variant.timeout:3000}")
+    private long variantTimeoutMillis;
+
+    @Value("${server.file.gallery.variant.failure-ttl:60000}")
+    private long variantFailureTtlMillis;
+
+    //요청 크기별 이미지 (?w=&h=)
+    @Bean
+    public ImageVariantResourceResolver imageVariantResourceResolver(FileUtils fileUtils, ThumbnailJobService thumbnailJobService){
+        List<ThumbnailSize> sizes = variantSizes.stream()
+                                        .filter(size -> !size.isBlank())
+                                        .map(ThumbnailSize::parse)
+                                        .toList();
+
+        ImageVariantResourceResolver resolver = new ImageVariantResourceResolver(thumbnailJobService, variantPath, sizes,
+                                                                                 variantTimeoutMillis, variantFailureTtlMillis);
+        fileUtils.addDeleteListener(resolver::invalidate);
+        return resolver;
+    }
+
+    //자주 쓰는 이미지 메모리 캐시 (힙 밖)
+    @Bean
+    public HotImageResourceResolver hotImageResourceResolver(FileUtils fileUtils){
+        HotImageResourceResolver resolver = new HotImageResourceResolver(cacheMaxBytes, cacheMaxEntryBytes);
+        fileUtils.addDeleteListener(resolver::invalidate);
+        return resolver;
+    }
+
+    //이미지 전송 (ETag, 304, Range, 캐시 헤더)
+    @Bean
+    public ImageResourceHandler imageResourceHandler(ImageVariantResourceResolver imageVariantResourceResolver,
+                                                     HotImageResourceResolver hotImageResourceResolver,
+                                                     PrecompressProperties precompressProperties){
+        List<ResourceResolver> resolvers = new ArrayList<>();
+        resolvers.add(imageVariantResourceResolver);
+        // 압축본(.br, .gz) 확인은 메모리 캐시보다 앞 (캐시에는 원본만 보관)
+        resolvers.add(new PrecompressedResourceResolver(precompressProperties.getExtensions()));
+        if(cacheEnabled){
+            resolvers.add(hotImageResourceResolver);
+        }
+        resolvers.add(new PathResourceResolver());
+
+        ImageResourceHandler handler = new ImageResourceHandler();
+        handler.setLocationValues(List.of("file:" + filePath));
+        handler.setResourceResolvers(resolvers);
+        handler.setResourceHttpMessageConverter(new SendfileResourceHttpMessageConverter(sendfileThreshold));
+        return handler;
+    }
+
+    @Bean
+    public SimpleUrlHandlerMapping imageHandlerMapping(ImageResourceHandler imageResourceHandler){
+        // 기본 정적 리소스 매핑보다 먼저
+        return new SimpleUrlHandlerMapping(Map.of("/static/imgs/**", imageResourceHandler), Ordered.LOWEST_PRECEDENCE - 2);
+    }
+
+    //로그 trace/span 아이디 (보안 필터 체인보다 먼저)
+    @Bean
+    public FilterRegistrationBean<TraceIdFilter> traceIdFilter(){
+        FilterRegistrationBean<TraceIdFilter> registration = new FilterRegistrationBean<>(new TraceIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
     }
 
     //파일제한
@@ -33,6 +127,9 @@ public class WebConfig implements WebMvcConfigurer{
         MultipartConfigFactory factory = new MultipartConfigFactory();
         factory.setMaxFileSize(DataSize.of(50, DataUnit.MEGABYTES));
         factory.setMaxRequestSize(DataSize.of(50, DataUnit.MEGABYTES));
+        // 기본값(0)은 모든 파일을 톰캣이 디스크에 임시 저장한 뒤 FileUtils 가 다시 복사
+        // 이보다 작은 파일은 메모리에서 바로 저장 경로로 씀
+        factory.setFileSizeThreshold(DataSize.ofBytes(uploadMemoryThreshold));
         return factory.createMultipartConfig();
     }
 }
@@ -3,10 +3,13 @@ package it.exam.book_purple.filter;
 import java.io.IOException;
 import java.util.Arrays;
 
-import org.json.JSONObject;
 import org.springframework.web.filter.GenericFilterBean;
 
+import it.exam.book_purple.common.utils.JWTTokenCache;
 import it.exam.book_purple.common.utils.JWTUtils;
+import it.exam.book_purple.common.utils.JsonResponseUtils;
+import it.exam.book_purple.security.dto.TokenClaimsDTO;
+import it.exam.book_purple.security.store.TokenRevocationStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -15,6 +18,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /*
  * 로그아웃 요청이 들어왔을 때
@@ -22,9 +26,18 @@ import lombok.RequiredArgsConstructor;
  */
 
 @RequiredArgsConstructor
+@Slf4j
 public class CustomLogoutFilter extends GenericFilterBean{
 
+    // 고정된 응답은 미리 인코딩
+    private static final byte[] SUCCESS_BODY =
+            JsonResponseUtils.encodeResult("200", HttpServletResponse.SC_OK);
+    private static final byte[] FAIL_BODY =
+            JsonResponseUtils.encodeResult("FAIL", HttpServletResponse.SC_BAD_REQUEST);
+
     private final JWTUtils jwtUtils;
+    private final JWTTokenCache tokenCache;
+    private final TokenRevocationStore revocationStore;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -52,8 +65,6 @@ public class CustomLogoutFilter extends GenericFilterBean{
         String refreshToken = "";
         Cookie[] cookies = request.getCookies();
         
-        response.setContentType("applicaion/json");
-
         try{
             
             if(cookies == null){
@@ -66,16 +77,20 @@ public class CustomLogoutFilter extends GenericFilterBean{
                             .map(Cookie::getValue)
                             .findAny().orElseThrow(()->new IllegalAccessException("없음"));
 
-            // 토큰이 만료됐는지 확인
-            if(jwtUtils.getExpired(refreshToken)){
+            // 토큰 검증은 한번만, 만료되거나 변조된 토큰은 null
+            TokenClaimsDTO claims = jwtUtils.parseToken(refreshToken);
+            if(claims == null){
                 throw new IllegalAccessException("refresh token 유효기간 지남");
             }
 
-            String category = jwtUtils.getCategory(refreshToken);
-            if(!category.equals("refresh")){
+            if(!claims.isRefresh()){
                 throw new IllegalAccessException("맞지 않는 키입니다.");
             }
 
+            // 토큰 폐기 : 쿠키를 지워도 탈취된 토큰은 남은 유효기간 동안 쓸 수 있으므로
+            revocationStore.revoke(claims.getTokenId(), claims.getExpiration());
+            this.revokeAccessToken(request);
+
             // 로그아웃 처리 : 쿠키 삭제
             Cookie cookie = new Cookie("refresh", null);
             cookie.setMaxAge(0);  // 쿠키 삭제
@@ -83,28 +98,30 @@ public class CustomLogoutFilter extends GenericFilterBean{
             response.addCookie(cookie);
 
             // 성공 응답 보내기 
-            response.setStatus(HttpServletResponse.SC_OK);
-
-            JSONObject obj = new JSONObject();
-
-            obj.put("resultMsg", "200");
-            obj.put("status", HttpServletResponse.SC_OK);
-
-            response.getWriter().write(obj.toString());
-            
+            JsonResponseUtils.write(response, HttpServletResponse.SC_OK, SUCCESS_BODY);
             
         }catch(Exception e){
 
-            e.printStackTrace();
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            
-            JSONObject obj = new JSONObject();
-            
-            obj.put("resultMsg", "FAIL");
-            obj.put("status", HttpServletResponse.SC_BAD_REQUEST);
-            
-            response.getWriter().write(obj.toString());
+            log.error("로그아웃 처리 오류", e);
+            JsonResponseUtils.write(response, HttpServletResponse.SC_BAD_REQUEST, FAIL_BODY);
+
+        }
+    }
+
+    // 같이 온 access 토큰도 폐기, 검증 캐시에서도 제거
+    private void revokeAccessToken(HttpServletRequest request){
+        String accessToken = request.getHeader("Authorization");
+        if(accessToken == null){
+            return;
+        }
+        if(accessToken.startsWith("Bearer ")){
+            accessToken = accessToken.substring(7);
+        }
 
+        TokenClaimsDTO claims = jwtUtils.parseToken(accessToken);
+        if(claims != null && claims.isAccess()){
+            revocationStore.revoke(claims.getTokenId(), claims.getExpiration());
+            tokenCache.invalidate(accessToken);
         }
     }
     
@@ -2,14 +2,14 @@ package it.exam.book_purple.filter;
 
 import java.io.IOException;
 
-import org.json.JSONObject;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import it.exam.book_purple.common.utils.JWTUtils;
-import it.exam.book_purple.security.dto.UserSecureDTO;
+import it.exam.book_purple.common.utils.JWTTokenCache;
+import it.exam.book_purple.common.utils.JsonResponseUtils;
+import it.exam.book_purple.security.dto.TokenClaimsDTO;
+import it.exam.book_purple.security.store.TokenRevocationStore;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,7 +25,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JWTFilter extends OncePerRequestFilter{
 
-    private final JWTUtils jwtUtils;
+    private static final String INVALID_TOKEN_MESSAGE = "유효하지 않은 토큰입니다.";
+
+    // 고정된 에러 응답은 미리 인코딩
+    private static final byte[] INVALID_TOKEN_BODY =
+            JsonResponseUtils.encodeResult("Invalid Token", HttpServletResponse.SC_NOT_ACCEPTABLE);
+    private static final byte[] INVALID_TOKEN_MESSAGE_BODY =
+            JsonResponseUtils.encodeResult(INVALID_TOKEN_MESSAGE, HttpServletResponse.SC_NOT_ACCEPTABLE);
+
+    private final JWTTokenCache tokenCache;
+    private final TokenRevocationStore revocationStore;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,45 +48,37 @@ public class JWTFilter extends OncePerRequestFilter{
             return;
         }
 
+        TokenClaimsDTO claims = null;
+
         try{
             // 보통 토큰 앞에는 "Bearer "이 붙음
             if(accessToken.startsWith("Bearer ")){
                 accessToken = accessToken.substring(7);
-                
-                // 토큰이 만료됐거나 변조됐는지 검사 
-                if(!jwtUtils.validateToken(accessToken)){
-                    throw new IllegalAccessError("유효하지 않은 토큰입니다.");
-                }
             }
 
-            String category = jwtUtils.getCategory(accessToken);
+            // 서명 검증과 클레임 추출을 한번에 처리 (이미 검증된 토큰은 캐시에서)
+            // 토큰이 만료됐거나 변조됐다면 null
+            claims = tokenCache.parseToken(accessToken);
 
-            if(!category.equals("access")){
-                throw new IllegalAccessError("유효하지 않은 토큰입니다.");
+            // 로그아웃 등으로 폐기된 토큰인지 확인 (메모리 조회)
+            if(claims == null || !claims.isAccess()
+                    || revocationStore.isRevoked(claims.getTokenId())){
+                throw new IllegalAccessError(INVALID_TOKEN_MESSAGE);
             }
             
-        }catch(Exception e){
+        }catch(Exception | IllegalAccessError e){
 
             // response 한다
-            response.setContentType("application/json");
-            JSONObject message = this.getErrorMessage(e.getMessage(),HttpServletResponse.SC_NOT_ACCEPTABLE);
-            response.getWriter().write(message.toString());
-            response.setStatus(HttpServletResponse.SC_NOT_ACCEPTABLE);
+            this.writeError(response, e.getMessage());
 
             return;  // 함수 종료
 
         }
 
         // 인증 성공
-        String userId = jwtUtils.getUserId(accessToken);
-        String userName = jwtUtils.getUserName(accessToken);
-        String userRole = jwtUtils.getUserRole(accessToken);
+        // 불변 인증 객체라서 캐시된 토큰이면 새로 만들지 않음
+        Authentication authentication = claims.toAuthentication();
 
-        // UserSecureDTO(String userId, String userName, String passwd, String userRole)
-        UserSecureDTO dto = new UserSecureDTO(userId, userName, "", userRole);
-
-        // 시큐리티 세션에 저장
-        Authentication authentication = new UsernamePasswordAuthenticationToken(dto, null, dto.getAuthorities());
         // 인증 성공 처리, 스프링 시큐리티에 저장
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -86,13 +87,17 @@ public class JWTFilter extends OncePerRequestFilter{
 
     }
 
-    private JSONObject getErrorMessage(String message, int status){
+    private void writeError(HttpServletResponse response, String message) throws IOException{
 
-            JSONObject jObj = new JSONObject();
-            jObj.put("resultMsg", message == null ? "Invalid Token" : message );
-            jObj.put("status", status);
+        int status = HttpServletResponse.SC_NOT_ACCEPTABLE;
 
-            return jObj;
+        if(message == null){
+            JsonResponseUtils.write(response, status, INVALID_TOKEN_BODY);
+        }else if(message.equals(INVALID_TOKEN_MESSAGE)){
+            JsonResponseUtils.write(response, status, INVALID_TOKEN_MESSAGE_BODY);
+        }else{
+            JsonResponseUtils.writeResult(response, status, message);
+        }
 
     }
 
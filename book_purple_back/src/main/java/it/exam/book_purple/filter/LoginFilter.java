@@ -3,7 +3,6 @@ package it.exam.book_purple.filter;
 import java.io.IOException;
 import java.util.Iterator;
 
-import org.json.JSONObject;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -12,6 +11,8 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import it.exam.book_purple.common.utils.JWTUtils;
+import it.exam.book_purple.common.utils.JsonResponseUtils;
+import it.exam.book_purple.security.crypto.LoginOverloadedException;
 import it.exam.book_purple.security.dto.UserSecureDTO;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,18 +20,29 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 로그인 인증필터를 만든다
  */
 @RequiredArgsConstructor
+@Slf4j
 public class LoginFilter extends UsernamePasswordAuthenticationFilter{
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtils jwtUtils;
 
     public static final long ACCESS_TOKEN_EXPIRE_TIME = 30;       // 30분
-    public static final long REFRESH_TOKEN_EXPIRE_TIME = 86400L;  // 24시간
+
+    // 로그인 실패 응답은 고정이라 미리 인코딩
+    private static final byte[] FAIL_BODY = JsonResponseUtils.encode(gen -> {
+        gen.writeStringField("resultMsg", "FAIL");
+        gen.writeNumberField("status", HttpServletResponse.SC_UNAUTHORIZED);
+        gen.writeObjectFieldStart("content");
+        gen.writeEndObject();
+    });
+    private static final byte[] BUSY_BODY =
+            JsonResponseUtils.encodeResult("BUSY", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
     
     // 인증시도
     @Override
@@ -65,33 +77,30 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter{
 
         // 토큰 생성
         String accessToken = jwtUtils.createJWT("access", userId, userName, userRole, ACCESS_TOKEN_EXPIRE_TIME);
-        String refreshToken = jwtUtils.createJWT("refresh", userId, userName, userRole, REFRESH_TOKEN_EXPIRE_TIME);
+        // 새 로그인이라 새 family
+        String refreshToken = jwtUtils.createRefreshJWT(null, userId, userName, userRole);
 
         // 응답을 설정
         response.setHeader("Authorization", accessToken); 
         response.addCookie(createCookie("refresh", refreshToken));
-        response.setStatus(HttpServletResponse.SC_OK);
         
         try{
 
             // 인증정보
-            JSONObject jObj = new JSONObject();
-            jObj.put("resultMsg", "OK");
-            jObj.put("status", "200");
-
-            JSONObject data = new JSONObject();
-            data.put("userId", userId);
-            data.put("userName", userName);
-            data.put("userRole", userRole);
-            data.put("token", accessToken);
-
-            jObj.put("content", data);
-
-            response.setContentType("application/json");
-            response.getWriter().write(jObj.toString());
+            JsonResponseUtils.write(response, HttpServletResponse.SC_OK, gen -> {
+                gen.writeStringField("resultMsg", "OK");
+                gen.writeStringField("status", "200");
+
+                gen.writeObjectFieldStart("content");
+                gen.writeStringField("userId", userId);
+                gen.writeStringField("userName", userName);
+                gen.writeStringField("userRole", userRole);
+                gen.writeStringField("token", accessToken);
+                gen.writeEndObject();
+            });
 
         }catch(Exception e){
-            e.printStackTrace();
+            log.error("로그인 성공 응답 오류", e);
         }
 
     }
@@ -101,23 +110,20 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter{
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
             AuthenticationException failed) throws IOException, ServletException {
         
-        response.setContentType("application/json");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); 
-
          try{
 
-            // 인증정보
-            JSONObject jObj = new JSONObject();
-            jObj.put("resultMsg", "FAIL");
-            jObj.put("status", HttpServletResponse.SC_UNAUTHORIZED); 
-
-            JSONObject data = new JSONObject();
-            jObj.put("content", data);
+            // 검증 스레드풀이 가득 차서 거절된 경우
+            if(failed instanceof LoginOverloadedException){
+                response.setHeader("Retry-After", "1");
+                JsonResponseUtils.write(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, BUSY_BODY);
+                return;
+            }
 
-            response.getWriter().write(jObj.toString());
+            // 인증정보
+            JsonResponseUtils.write(response, HttpServletResponse.SC_UNAUTHORIZED, FAIL_BODY);
 
         }catch(Exception e){
-            e.printStackTrace();
+            log.error("로그인 실패 응답 오류", e);
         }
     }
 
@@ -125,7 +131,7 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter{
     private Cookie createCookie(String name, Object value){
         Cookie cookie = new Cookie(name, String.valueOf(value));
         cookie.setPath("/");   
-        cookie.setMaxAge((int)REFRESH_TOKEN_EXPIRE_TIME);
+        cookie.setMaxAge((int)JWTUtils.REFRESH_TOKEN_EXPIRE_TIME);
         cookie.setHttpOnly(true); 
 
         return cookie;
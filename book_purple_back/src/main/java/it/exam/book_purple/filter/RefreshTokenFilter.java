@@ -0,0 +1,115 @@
+package it.exam.book_purple.filter;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.GenericFilterBean;
+
+import it.exam.book_purple.common.utils.CookieUtils;
+import it.exam.book_purple.common.utils.JWTUtils;
+import it.exam.book_purple.common.utils.JsonResponseUtils;
+import it.exam.book_purple.security.dto.TokenClaimsDTO;
+import it.exam.book_purple.security.store.TokenRevocationStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 리프레시 토큰으로 토큰 재발급
+ * 사용한 리프레시 토큰은 폐기하고 새 토큰을 발급한다 (rotation)
+ * 폐기된 토큰이 다시 오면 같은 로그인(family)에서 발급된 토큰을 모두 폐기
+ * 만료된 access 토큰이 같이 오므로 JWTFilter 보다 먼저 실행
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenFilter extends GenericFilterBean{
+
+    public static final String REFRESH_URI = "/api/v1/refresh";
+
+    // 실패 응답은 고정이라 미리 인코딩
+    private static final byte[] FAIL_BODY =
+            JsonResponseUtils.encodeResult("FAIL", HttpServletResponse.SC_UNAUTHORIZED);
+
+    private final JWTUtils jwtUtils;
+    private final TokenRevocationStore revocationStore;
+    private final CookieUtils cookieUtils;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        process((HttpServletRequest) request, (HttpServletResponse) response, chain);
+    }
+
+    private void process(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain chain) throws IOException, ServletException{
+
+        // 재발급 요청이 아니면 다음 필터로
+        if(!REFRESH_URI.equals(request.getRequestURI()) ||
+                !request.getMethod().equalsIgnoreCase("POST")){
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Cookie cookie = cookieUtils.getCookie(request, "refresh");
+        TokenClaimsDTO claims = cookie == null ? null : jwtUtils.parseToken(cookie.getValue());
+
+        if(claims == null || !claims.isRefresh() || claims.getTokenId() == null){
+            JsonResponseUtils.write(response, HttpServletResponse.SC_UNAUTHORIZED, FAIL_BODY);
+            return;
+        }
+
+        // 재사용이 발견되어 family 전체가 폐기된 토큰
+        if(revocationStore.isRevoked(claims.getFamily())){
+            cookieUtils.deleteCookie(response, request, "refresh");
+            JsonResponseUtils.write(response, HttpServletResponse.SC_UNAUTHORIZED, FAIL_BODY);
+            return;
+        }
+
+        // 사용한 토큰은 바로 폐기, 이미 폐기된 토큰이면 재사용(탈취) 시도
+        // 탈취한 쪽이 이미 재발급 받았을 수 있으므로 같은 family 의 남은 토큰도 모두 폐기
+        if(!revocationStore.revoke(claims.getTokenId(), claims.getExpiration())){
+            log.warn("폐기된 refresh token 재사용 : {}", claims.getUserId());
+            // family 의 마지막 토큰은 늦어도 지금부터 유효시간 안에 만료
+            revocationStore.revoke(claims.getFamily(),
+                                   System.currentTimeMillis() + JWTUtils.REFRESH_TOKEN_EXPIRE_TIME * 1000L);
+            cookieUtils.deleteCookie(response, request, "refresh");
+            JsonResponseUtils.write(response, HttpServletResponse.SC_UNAUTHORIZED, FAIL_BODY);
+            return;
+        }
+
+        String userId = claims.getUserId();
+        String userName = claims.getUserName();
+        String userRole = claims.getUserRole();
+
+        // 새 토큰 발급
+        String accessToken = jwtUtils.createJWT("access", userId, userName, userRole,
+                                                LoginFilter.ACCESS_TOKEN_EXPIRE_TIME);
+        String refreshToken = jwtUtils.createRefreshJWT(claims.getFamily(), userId, userName, userRole);
+
+        response.setHeader("Authorization", accessToken);
+        cookieUtils.addCookie(
+            cookieUtils.createCookie("refresh", refreshToken, (int)JWTUtils.REFRESH_TOKEN_EXPIRE_TIME),
+            response);
+
+        // 로그인 응답과 같은 형태
+        JsonResponseUtils.write(response, HttpServletResponse.SC_OK, gen -> {
+            gen.writeStringField("resultMsg", "OK");
+            gen.writeStringField("status", "200");
+
+            gen.writeObjectFieldStart("content");
+            gen.writeStringField("userId", userId);
+            gen.writeStringField("userName", userName);
+            gen.writeStringField("userRole", userRole);
+            gen.writeStringField("token", accessToken);
+            gen.writeEndObject();
+        });
+    }
+
+}
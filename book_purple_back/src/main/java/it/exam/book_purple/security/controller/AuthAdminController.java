@@ -0,0 +1,35 @@
+package it.exam.book_purple.security.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import it.exam.book_purple.common.utils.JWTTokenCache;
+import it.exam.book_purple.security.crypto.PasswordVerifyExecutor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 인증 처리 지표
+ */
+@RestController
+@RequestMapping("/api/v1/admin/auth")
+@RequiredArgsConstructor
+public class AuthAdminController {
+
+    private final JWTTokenCache tokenCache;
+    private final PasswordVerifyExecutor verifyExecutor;
+
+    // 토큰 검증 캐시 히트율, 비밀번호 검증 풀 대기열/거절 건수
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("tokenCache", tokenCache.getStats());
+        resultMap.put("passwordVerify", verifyExecutor.getStats());
+        return ResponseEntity.ok(ApiResponse.ok(resultMap));
+    }
+}
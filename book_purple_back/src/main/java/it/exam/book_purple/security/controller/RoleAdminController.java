@@ -0,0 +1,39 @@
+package it.exam.book_purple.security.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+import it.exam.book_purple.security.service.RoleAuthorityService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 권한 관리
+ */
+@RestController
+@RequestMapping("/api/v1/admin/roles")
+@RequiredArgsConstructor
+public class RoleAdminController {
+
+    private final RoleAuthorityService roleAuthorityService;
+
+    /**
+     * 권한 수정 (2차 캐시 role 영역이 비워짐)
+     * @param roleId
+     * @param roleName 권한명
+     * @param useYn 사용여부
+     */
+    @PutMapping("/{roleId}")
+    public ResponseEntity<ApiResponse<UserRoleEntity>> updateRole(
+            @PathVariable String roleId,
+            @RequestParam String roleName,
+            @RequestParam(defaultValue = "Y") String useYn){
+
+        return ResponseEntity.ok(ApiResponse.ok(roleAuthorityService.updateRole(roleId, roleName, useYn)));
+    }
+}
@@ -0,0 +1,123 @@
+package it.exam.book_purple.security.controller;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import it.exam.book_purple.common.dto.ApiResponse;
+import it.exam.book_purple.common.dto.CursorResponse;
+import it.exam.book_purple.common.dto.PageResponse;
+import it.exam.book_purple.security.dto.UserImportJob;
+import it.exam.book_purple.security.dto.UserListDTO;
+import it.exam.book_purple.security.dto.UserSearchDTO;
+import it.exam.book_purple.security.service.UserBulkService;
+import it.exam.book_purple.security.service.UserListService;
+import it.exam.book_purple.security.service.UserSearchService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 회원 관리
+ */
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class UserAdminController {
+
+    private final UserListService userListService;
+    private final UserSearchService userSearchService;
+    private final UserBulkService userBulkService;
+
+    /**
+     * 회원 목록 (커서 방식)
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 페이지 크기
+     * @param withTotal true 면 전체 건수(캐시) 포함
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorResponse<UserListDTO>>> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal){
+
+        return ResponseEntity.ok(ApiResponse.ok(userListService.getUsers(cursor, size, withTotal)));
+    }
+
+    /**
+     * 회원 검색 (페이지 번호 방식)
+     * @param search 검색 조건 (searchType, keyword, useYn, delYn, roleId)
+     * @param page 0 부터
+     * @param size 페이지 크기
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PageResponse<UserListDTO>>> searchUsers(
+            @ModelAttribute UserSearchDTO search,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size){
+
+        return ResponseEntity.ok(ApiResponse.ok(new PageResponse<>(userSearchService.searchUsers(search, page, size))));
+    }
+
+    /**
+     * 회원 가져오기 (CSV)
+     * 작업만 등록하고 바로 응답, 결과는 jobId 로 조회
+     * @param file 첫 줄 헤더 : userId,passwd,userName,birth,gender,phone,email,addr,addrDetail,useYn,roleId
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> importUsers(@RequestParam("file") MultipartFile file) throws Exception{
+        // 요청이 끝나면 업로드 임시 파일이 지워지므로 작업용으로 복사 (작업이 끝나면 삭제)
+        Path csvFile = Files.createTempFile("user-import-", ".csv");
+        try{
+            file.transferTo(csvFile);
+        }catch(Exception e){
+            Files.deleteIfExists(csvFile);
+            throw e;
+        }
+        return ResponseEntity.ok(ApiResponse.ok(userBulkService.submitImport(csvFile).toResult()));
+    }
+
+    /**
+     * 회원 가져오기 결과 (끝난 뒤 1시간까지 조회)
+     * @param jobId
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getImportJob(@PathVariable String jobId){
+        UserImportJob job = userBulkService.getImportJob(jobId);
+        if(job == null){
+            throw new RuntimeException("없는 가져오기 작업입니다.");
+        }
+        return ResponseEntity.ok(ApiResponse.ok(job.toResult()));
+    }
+
+    /**
+     * 회원 내보내기 (CSV)
+     * 전체를 메모리에 만들지 않고 읽는 대로 응답에 씀
+     */
+    @GetMapping("/export")
+    public void exportUsers(HttpServletResponse response) throws Exception{
+        response.setContentType("text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("users.csv").build().toString());
+
+        userBulkService.exportUsers(response.getWriter());
+    }
+
+    // 검색 건수 캐시 지표
+    @GetMapping("/search/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSearchStats(){
+        return ResponseEntity.ok(ApiResponse.ok(userSearchService.getStats()));
+    }
+}
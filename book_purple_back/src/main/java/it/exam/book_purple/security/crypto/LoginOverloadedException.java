@@ -0,0 +1,13 @@
+package it.exam.book_purple.security.crypto;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 검증 스레드가 모두 사용중이라 로그인을 처리할 수 없음 (503)
+ */
+public class LoginOverloadedException extends AuthenticationServiceException {
+
+    public LoginOverloadedException(String msg) {
+        super(msg);
+    }
+}
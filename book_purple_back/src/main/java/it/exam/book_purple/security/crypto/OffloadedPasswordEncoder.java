@@ -0,0 +1,34 @@
+package it.exam.book_purple.security.crypto;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비밀번호 비교는 PasswordVerifyExecutor 스레드에서 실행
+ * 암호화는 로그인 성공 후 해시 교체에만 쓰이므로 호출 스레드에서 실행
+ */
+@RequiredArgsConstructor
+public class OffloadedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordVerifyExecutor verifyExecutor;
+
+    // 검증 풀이 가득 차도 이미 비밀번호가 맞은 로그인이 503 이 되지 않도록 바로 실행
+    // (cost 가 낮은 해시만 교체 대상이라 회원당 한번)
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return verifyExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 문자열만 보고 판단하므로 바로 실행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
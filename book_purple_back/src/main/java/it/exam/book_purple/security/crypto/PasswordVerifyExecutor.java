@@ -0,0 +1,105 @@
+package it.exam.book_purple.security.crypto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 검증(BCrypt) 전용 스레드풀
+ * 로그인이 몰려도 톰캣 요청 스레드가 전부 CPU 작업에 묶이지 않도록
+ * 동시 검증 수와 대기열을 제한하고, 넘치면 바로 거절(503)한다
+ */
+@Component
+@Slf4j
+public class PasswordVerifyExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    public PasswordVerifyExecutor(@Value("${spring.password.verify.threads:0}") int threads,
+                                  @Value("${spring.password.verify.queue-size:64}") int queueSize,
+                                  @Value("${spring.password.verify.timeout:3000}") long timeoutMillis){
+
+        // 0 이면 CPU 코어 수
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(queueSize),
+                            r -> {
+                                Thread t = new Thread(r, "passwd-verify-" + seq.incrementAndGet());
+                                t.setDaemon(true);
+                                return t;
+                            },
+                            new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 검증 스레드에서 실행하고 결과를 기다린다
+     * @throws LoginOverloadedException 대기열이 가득 찼거나 시간 초과
+     */
+    public <T> T execute(Callable<T> task){
+        Future<T> future;
+        try{
+            future = executor.submit(task);
+        }catch(RejectedExecutionException e){
+            rejectedCount.increment();
+            throw new LoginOverloadedException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try{
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        }catch(TimeoutException e){
+            future.cancel(true);
+            timeoutCount.increment();
+            throw new LoginOverloadedException("로그인 처리 시간이 초과되었습니다.");
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new LoginOverloadedException("로그인 처리가 중단되었습니다.");
+        }catch(ExecutionException e){
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException re){
+                throw re;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // 대기열 깊이 등 상태
+    public Map<String, Object> getStats(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("poolSize", executor.getPoolSize());
+        resultMap.put("activeCount", executor.getActiveCount());
+        resultMap.put("queueDepth", executor.getQueue().size());
+        resultMap.put("queueRemaining", executor.getQueue().remainingCapacity());
+        resultMap.put("completedCount", executor.getCompletedTaskCount());
+        resultMap.put("rejectedCount", rejectedCount.sum());
+        resultMap.put("timeoutCount", timeoutCount.sum());
+        return resultMap;
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,65 @@
+package it.exam.book_purple.security.dto;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 권한(role)별로 미리 만들어 둔 GrantedAuthority 목록
+ * 요청마다 ArrayList, SimpleGrantedAuthority, "ROLE_" 문자열을 새로 만들지 않도록 공유한다
+ * role 테이블 값은 RoleAuthorityService 가 시작할 때 등록 (사용 중지된 role 은 빈 목록)
+ */
+public final class RoleAuthorities {
+
+    //스프링 보안이 권한 값을 받을 때 prefix를 ROLE_ 을 붙여야 인식한다.
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    private static final ConcurrentMap<String, List<GrantedAuthority>> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private RoleAuthorities(){
+    }
+
+    /**
+     * 권한 목록 조회 (없으면 만들어서 등록)
+     * @param userRole "USER" 또는 "ROLE_USER" 둘 다 허용
+     * @return 변경 불가능한 공유 목록
+     */
+    public static List<GrantedAuthority> of(String userRole){
+        if(userRole == null || userRole.isEmpty()){
+            return List.of();
+        }
+
+        List<GrantedAuthority> authorities = AUTHORITIES.get(userRole);
+        if(authorities != null){
+            return authorities;
+        }
+        return AUTHORITIES.computeIfAbsent(userRole, RoleAuthorities::create);
+    }
+
+    // role 테이블 값 미리 등록 (사용 중지였던 role 이면 다시 사용)
+    public static void register(String roleId){
+        AUTHORITIES.put(roleId, create(roleId));
+        AUTHORITIES.put(ROLE_PREFIX + roleId, create(roleId));
+    }
+
+    /**
+     * 사용 중지된 role 은 빈 목록으로 등록
+     * 지우기만 하면 of() 가 다시 만들어서 계속 권한이 생기므로 빈 목록을 남겨둔다
+     */
+    public static void disable(String roleId){
+        AUTHORITIES.put(roleId, List.of());
+        AUTHORITIES.put(ROLE_PREFIX + roleId, List.of());
+    }
+
+    public static void clear(){
+        AUTHORITIES.clear();
+    }
+
+    private static List<GrantedAuthority> create(String userRole){
+        String authority = userRole.startsWith(ROLE_PREFIX) ? userRole : ROLE_PREFIX + userRole;
+        return List.of(new SimpleGrantedAuthority(authority));
+    }
+}
@@ -0,0 +1,64 @@
+package it.exam.book_purple.security.dto;
+
+import java.util.Collection;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * JWT 로 인증된 사용자 정보
+ * 상태가 없는 불변 객체라서 캐시된 토큰이면 요청마다 같은 인스턴스를 재사용한다
+ */
+public final class TokenAuthentication implements Authentication {
+
+    private final TokenClaimsDTO claims;
+
+    public TokenAuthentication(TokenClaimsDTO claims) {
+        this.claims = claims;
+    }
+
+    // 권한은 요청마다 RoleAuthorities 에서 조회 (캐시된 토큰이어도 role 수정/사용 중지가 바로 반영)
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return RoleAuthorities.of(claims.getUserRole());
+    }
+
+    // 토큰 인증에는 비밀번호가 없음
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public TokenClaimsDTO getPrincipal() {
+        return claims;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    // 공유 인스턴스라서 상태 변경 불가
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) throws IllegalArgumentException {
+        if(!isAuthenticated){
+            throw new IllegalArgumentException("토큰 인증 정보는 변경할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return claims.getUserId();
+    }
+
+    @Override
+    public String toString() {
+        return "TokenAuthentication [userId=" + claims.getUserId() + ", authorities=" + getAuthorities() + "]";
+    }
+}
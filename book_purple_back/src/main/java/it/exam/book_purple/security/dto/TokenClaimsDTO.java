@@ -0,0 +1,58 @@
+package it.exam.book_purple.security.dto;
+
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임
+ * 한번 파싱한 결과를 필터에서 그대로 사용하기 위한 객체
+ */
+@Getter
+public class TokenClaimsDTO {
+
+    // jti, 폐기(revoke) 처리에 사용
+    private final String tokenId;
+    private final String category;
+    // 같은 로그인에서 재발급된 refresh 토큰 묶음 (access 토큰은 null)
+    private final String family;
+    private final String userId;
+    private final String userName;
+    private final String userRole;
+    // 만료시간 (epoch millis)
+    private final long expiration;
+
+    @Getter(lombok.AccessLevel.NONE)
+    private volatile TokenAuthentication authentication;
+
+    public TokenClaimsDTO(String tokenId, String category, String family, String userId, String userName, String userRole, long expiration) {
+        this.tokenId = tokenId;
+        this.category = category;
+        this.family = family;
+        this.userId = userId;
+        this.userName = userName;
+        this.userRole = userRole;
+        this.expiration = expiration;
+    }
+
+    public boolean isAccess(){
+        return "access".equals(category);
+    }
+
+    public boolean isRefresh(){
+        return "refresh".equals(category);
+    }
+
+    // 시큐리티 인증 객체, 한번 만들면 계속 재사용 (권한은 매번 RoleAuthorities 에서 조회)
+    public TokenAuthentication toAuthentication(){
+        TokenAuthentication auth = authentication;
+        if(auth == null){
+            auth = new TokenAuthentication(this);
+            authentication = auth;
+        }
+        return auth;
+    }
+
+    // 인증 객체로 변환
+    public UserSecureDTO toUserSecureDTO(){
+        return new UserSecureDTO(userId, userName, "", userRole);
+    }
+}
@@ -0,0 +1,45 @@
+package it.exam.book_purple.security.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import lombok.Value;
+
+/**
+ * 회원 목록 커서 (정렬 기준 createDate, userId 의 마지막 값)
+ * 클라이언트에는 base64url 문자열로 전달, 내용은 해석하지 않고 그대로 돌려받음
+ */
+@Value
+public class UserCursor {
+
+    LocalDateTime createDate;
+    String userId;
+
+    public static UserCursor of(UserListDTO user){
+        return new UserCursor(user.getCreateDate(), user.getUserId());
+    }
+
+    public String encode(){
+        String value = createDate + "|" + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode 로 만든 값
+     * @return 비어있으면 null (첫 페이지)
+     */
+    public static UserCursor decode(String cursor){
+        if(cursor == null || cursor.isBlank()){
+            return null;
+        }
+
+        try{
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = value.indexOf('|');
+            return new UserCursor(LocalDateTime.parse(value.substring(0, idx)), value.substring(idx + 1));
+        }catch(RuntimeException e){
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+}
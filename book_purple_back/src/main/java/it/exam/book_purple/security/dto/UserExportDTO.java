@@ -0,0 +1,27 @@
+package it.exam.book_purple.security.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 내보내기 한 줄 (비밀번호 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class UserExportDTO {
+
+    private String userId;
+    private String userName;
+    private String birth;
+    private String gender;
+    private String phone;
+    private String email;
+    private String addr;
+    private String addrDetail;
+    private String useYn;
+    private String delYn;
+    private String roleId;
+    private LocalDateTime createDate;
+}
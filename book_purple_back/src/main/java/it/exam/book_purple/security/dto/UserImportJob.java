@@ -0,0 +1,55 @@
+package it.exam.book_purple.security.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 회원 가져오기 작업 상태
+ * 결과는 작업 스레드만 수정하므로 끝난 뒤(DONE, FAILED)에만 응답에 포함
+ */
+@Getter
+public class UserImportJob {
+
+    public enum Status {
+        PENDING,    // 대기열
+        RUNNING,    // 가져오는 중
+        DONE,
+        FAILED      // 파일 오류 (헤더 등), 줄 단위 오류는 DONE 의 결과에 포함
+    }
+
+    private final String jobId;
+
+    private volatile Status status = Status.PENDING;
+    private volatile UserImportResultDTO result;
+    private volatile String errorMessage;
+
+    public UserImportJob(String jobId) {
+        this.jobId = jobId;
+    }
+
+    // 상태 조회 응답
+    public Map<String, Object> toResult(){
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("jobId", jobId);
+        resultMap.put("status", status);
+        resultMap.put("errorMessage", errorMessage);
+        resultMap.put("result", result);
+        return resultMap;
+    }
+
+    public void running(){
+        status = Status.RUNNING;
+    }
+
+    public void done(UserImportResultDTO result){
+        this.result = result;
+        status = Status.DONE;
+    }
+
+    public void failed(String message){
+        errorMessage = message;
+        status = Status.FAILED;
+    }
+}
@@ -0,0 +1,43 @@
+package it.exam.book_purple.security.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 가져오기 결과
+ * 잘못된 줄은 건너뛰고, DB 오류는 묶음(chunk) 단위로 롤백해서 어느 줄 범위인지 알려줌
+ */
+@Getter
+public class UserImportResultDTO {
+
+    private int totalRows;
+    private int successRows;
+    private int failedRows;
+    private final List<ImportError> errors = new ArrayList<>();
+
+    public void addTotal(){
+        totalRows++;
+    }
+
+    public void addSuccess(int rows){
+        successRows += rows;
+    }
+
+    public void addError(int chunk, int fromLine, int toLine, int rows, String message){
+        failedRows += rows;
+        errors.add(new ImportError(chunk, fromLine, toLine, message));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportError {
+        // 0 이면 DB 저장 전 확인 오류 (한 줄)
+        private int chunk;
+        private int fromLine;
+        private int toLine;
+        private String message;
+    }
+}
@@ -0,0 +1,27 @@
+package it.exam.book_purple.security.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 목록 한 줄 (비밀번호 등 목록에 필요 없는 값 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class UserListDTO {
+
+    private String userId;
+    private String userName;
+    private String email;
+    private String phone;
+    private String useYn;
+    private String delYn;
+    private String roleId;
+    private String roleName;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createDate;
+}
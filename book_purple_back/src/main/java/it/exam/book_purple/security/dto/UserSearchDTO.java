@@ -0,0 +1,59 @@
+package it.exam.book_purple.security.dto;
+
+import java.util.Locale;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 회원 검색 조건
+ * 비어있는 값은 조건에서 제외
+ */
+@Getter
+@Setter
+public class UserSearchDTO {
+
+    // userId, userName, email (대소문자 무시, 없거나 다른 값이면 세 항목 모두)
+    private SearchType searchType = SearchType.ALL;
+    private String keyword;
+    private String useYn;
+    private String delYn;
+    private String roleId;
+
+    public void setSearchType(String searchType){
+        this.searchType = SearchType.of(searchType);
+    }
+
+    /**
+     * 같은 조건이면 같은 값 (공백, 대소문자, 빈 값 정리)
+     * 검색 건수 캐시 키로 사용, searchType 은 조회와 같은 값(SearchType)을 사용
+     */
+    public String toCacheKey(){
+        return searchType.name() + "|" + normalize(keyword) + "|" + normalize(useYn) + "|"
+                + normalize(delYn) + "|" + normalize(roleId);
+    }
+
+    private static String normalize(String value){
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public enum SearchType {
+        USER_ID("userId"), USER_NAME("userName"), EMAIL("email"), ALL("");
+
+        private final String param;
+
+        SearchType(String param){
+            this.param = param;
+        }
+
+        public static SearchType of(String value){
+            String param = value == null ? "" : value.trim();
+            for(SearchType type : values()){
+                if(type != ALL && type.param.equalsIgnoreCase(param)){
+                    return type;
+                }
+            }
+            return ALL;
+        }
+    }
+}
@@ -10,7 +10,9 @@ import it.exam.book_purple.common.domain.BaseEntity;
 @Getter
 @Setter
 @Entity
-@Table(name="user")
+// 커서 목록 정렬 (create_date, user_id) 인덱스
+// CREATE INDEX idx_user_create_date ON user (create_date, user_id);
+@Table(name="user", indexes = @Index(name = "idx_user_create_date", columnList = "create_date, user_id"))
 public class UserEntity extends BaseEntity {
     
     @Id
@@ -35,7 +37,7 @@ public class UserEntity extends BaseEntity {
     @Column( columnDefinition = "CHAR(1)")
     private String useYn;
     @Column( columnDefinition = "CHAR(1)")
-    @ColumnDefault("N")
+    @ColumnDefault("'N'")
     private String delYn;
 
 
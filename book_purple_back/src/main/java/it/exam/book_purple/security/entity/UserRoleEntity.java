@@ -1,5 +1,9 @@
 package it.exam.book_purple.security.entity;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import it.exam.book_purple.common.domain.BaseEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -11,6 +15,9 @@ import lombok.Setter;
 @Setter
 @Entity
 @Table(name="role")
+// 2차 캐시 (읽기 전용), 수정은 UserRoleRepository.updateRole 로만
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "role")
 public class UserRoleEntity extends BaseEntity {
 
     @Id
@@ -0,0 +1,134 @@
+package it.exam.book_purple.security.repository;
+
+import static it.exam.book_purple.security.entity.QUserEntity.userEntity;
+import static it.exam.book_purple.security.entity.QUserRoleEntity.userRoleEntity;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import it.exam.book_purple.security.dto.UserCursor;
+import it.exam.book_purple.security.dto.UserExportDTO;
+import it.exam.book_purple.security.dto.UserListDTO;
+import it.exam.book_purple.security.dto.UserSearchDTO;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 목록/검색 조회 전용 (QueryDSL DTO 조회)
+ * 화면에 나오는 컬럼만 select, 엔티티가 아니라서 영속성 컨텍스트 등록, 변경 감지 스냅샷이 없음
+ * 회원 검색 조건은 여기 searchCondition 한곳에서 만듦
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserQueryRepository {
+
+    private static final ConstructorExpression<UserListDTO> USER_LIST = Projections.constructor(UserListDTO.class,
+            userEntity.userId, userEntity.userName, userEntity.email, userEntity.phone,
+            userEntity.useYn, userEntity.delYn, userRoleEntity.roleId, userRoleEntity.roleName,
+            userEntity.createDate);
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 커서 목록 (createDate, userId 오름차순)
+     * @param after 마지막으로 본 행, null 이면 처음부터
+     * @param limit 조회 건수 (다음 페이지 확인용으로 size + 1)
+     */
+    public List<UserListDTO> findUserList(UserCursor after, int limit){
+        return queryFactory.select(USER_LIST)
+                           .from(userEntity)
+                           .join(userEntity.role, userRoleEntity)
+                           .where(after(after))
+                           .orderBy(userEntity.createDate.asc(), userEntity.userId.asc())
+                           .limit(limit)
+                           .fetch();
+    }
+
+    /**
+     * 검색 목록 (최근 가입순)
+     * @param offset
+     * @param limit 조회 건수 (다음 페이지 확인용으로 size + 1)
+     */
+    public List<UserListDTO> searchUserList(UserSearchDTO search, long offset, int limit){
+        return queryFactory.select(USER_LIST)
+                           .from(userEntity)
+                           .join(userEntity.role, userRoleEntity)
+                           .where(searchCondition(search))
+                           .orderBy(userEntity.createDate.desc(), userEntity.userId.desc())
+                           .offset(offset)
+                           .limit(limit)
+                           .fetch();
+    }
+
+    // 검색 건수 (role 은 FK 값으로만 비교, join 없음)
+    public long countUsers(UserSearchDTO search){
+        Long count = queryFactory.select(userEntity.count())
+                                 .from(userEntity)
+                                 .where(searchCondition(search))
+                                 .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 회원 내보내기 (가입순)
+     * 전체를 메모리에 올리지 않고 fetchSize 만큼씩 읽어옴, 트랜잭션 안에서 쓰고 닫아야 함
+     * @param fetchSize 한번에 가져올 행 수
+     */
+    public Stream<UserExportDTO> streamUserExport(int fetchSize){
+        return queryFactory.select(Projections.constructor(UserExportDTO.class,
+                                userEntity.userId, userEntity.userName, userEntity.birth, userEntity.gender,
+                                userEntity.phone, userEntity.email, userEntity.addr, userEntity.addrDetail,
+                                userEntity.useYn, userEntity.delYn, userEntity.role.roleId, userEntity.createDate))
+                           .from(userEntity)
+                           .orderBy(userEntity.createDate.asc(), userEntity.userId.asc())
+                           .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                           .stream();
+    }
+
+    // createDate >= 조건은 idx_user_create_date 인덱스 범위 검색용 (OR 만 있으면 인덱스를 처음부터 읽음)
+    private BooleanExpression after(UserCursor after){
+        if(after == null){
+            return null;
+        }
+        return userEntity.createDate.goe(after.getCreateDate())
+                .and(userEntity.createDate.gt(after.getCreateDate()).or(userEntity.userId.gt(after.getUserId())));
+    }
+
+    private BooleanBuilder searchCondition(UserSearchDTO search){
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if(StringUtils.hasText(search.getKeyword())){
+            String keyword = search.getKeyword().trim().toLowerCase(Locale.ROOT);
+            switch(search.getSearchType()){
+                case USER_ID -> builder.and(userEntity.userId.lower().contains(keyword));
+                case USER_NAME -> builder.and(userEntity.userName.lower().contains(keyword));
+                case EMAIL -> builder.and(userEntity.email.lower().contains(keyword));
+                default -> builder.and(userEntity.userId.lower().contains(keyword)
+                                        .or(userEntity.userName.lower().contains(keyword))
+                                        .or(userEntity.email.lower().contains(keyword)));
+            }
+        }
+
+        if(StringUtils.hasText(search.getUseYn())){
+            builder.and(userEntity.useYn.eq(search.getUseYn().trim().toUpperCase(Locale.ROOT)));
+        }
+        if(StringUtils.hasText(search.getDelYn())){
+            builder.and(userEntity.delYn.eq(search.getDelYn().trim().toUpperCase(Locale.ROOT)));
+        }
+        if(StringUtils.hasText(search.getRoleId())){
+            builder.and(userEntity.role.roleId.eq(search.getRoleId().trim().toUpperCase(Locale.ROOT)));
+        }
+
+        return builder;
+    }
+}
@@ -1,5 +1,7 @@
 package it.exam.book_purple.security.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -20,6 +22,10 @@ public interface UserRepository extends JpaRepository<UserEntity, String>, JpaSp
     @EntityGraph(attributePaths = {"role"})
     Page<UserEntity> findAll(Specification<UserEntity> userSearchSpecification, Pageable pageable);
 
+    // 로그인용 : role 까지 한번의 쿼리로 조회
+    @EntityGraph(attributePaths = {"role"})
+    Optional<UserEntity> findWithRoleByUserId(String userId);
+
 
     
 }
@@ -0,0 +1,24 @@
+package it.exam.book_purple.security.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import it.exam.book_purple.security.entity.UserRoleEntity;
+
+
+public interface UserRoleRepository extends JpaRepository<UserRoleEntity, String>{
+
+    List<UserRoleEntity> findByUseYn(String useYn);
+
+    // 읽기 전용 캐시 엔티티라 변경 감지 대신 update 쿼리 (커밋 후 2차 캐시 role 영역이 비워짐)
+    @Modifying(clearAutomatically = true)
+    @Query("update UserRoleEntity r set r.roleName = :roleName, r.useYn = :useYn, r.updateDate = :updateDate where r.roleId = :roleId")
+    int updateRole(@Param("roleId") String roleId, @Param("roleName") String roleName,
+                   @Param("useYn") String useYn, @Param("updateDate") LocalDateTime updateDate);
+
+}
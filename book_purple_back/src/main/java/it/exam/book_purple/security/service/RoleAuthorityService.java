@@ -0,0 +1,83 @@
+package it.exam.book_purple.security.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import it.exam.book_purple.security.dto.RoleAuthorities;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+import it.exam.book_purple.security.repository.UserRoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * role 테이블 조회
+ * 권한은 거의 바뀌지 않으므로 hibernate 2차 캐시(role 영역)에서 읽고,
+ * 관리자가 권한을 수정하면 영역이 비워진다 (DB 를 직접 고친 경우 evict 호출)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoleAuthorityService {
+
+    private final UserRoleRepository userRoleRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRoleAuthorities(){
+        // 조회한 role 은 2차 캐시에도 저장됨
+        for(UserRoleEntity role : userRoleRepository.findByUseYn("Y")){
+            RoleAuthorities.register(role.getRoleId());
+        }
+        // 사용 중지된 role 로 발급된 토큰은 권한 없음
+        for(UserRoleEntity role : userRoleRepository.findByUseYn("N")){
+            RoleAuthorities.disable(role.getRoleId());
+        }
+        log.info("권한 목록 등록 완료");
+    }
+
+    /**
+     * role 조회 (2차 캐시에 없으면 DB 조회 후 저장)
+     * @param roleId
+     * @return 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public UserRoleEntity getRole(String roleId){
+        if(roleId == null){
+            return null;
+        }
+        return userRoleRepository.findById(roleId).orElse(null);
+    }
+
+    /**
+     * 권한 수정 (관리자)
+     * @return 수정된 role
+     */
+    @Transactional
+    public UserRoleEntity updateRole(String roleId, String roleName, String useYn){
+        int rows = userRoleRepository.updateRole(roleId, roleName, useYn, LocalDateTime.now());
+        if(rows == 0){
+            throw new RuntimeException("없는 권한입니다. : " + roleId);
+        }
+        if("Y".equals(useYn)){
+            RoleAuthorities.register(roleId);
+        }else{
+            RoleAuthorities.disable(roleId);
+        }
+        return userRoleRepository.findById(roleId).orElse(null);
+    }
+
+    // DB 를 직접 수정한 경우 호출
+    public void evictRole(String roleId){
+        entityManagerFactory.getCache().evict(UserRoleEntity.class, roleId);
+    }
+
+    public void evictAll(){
+        entityManagerFactory.getCache().evict(UserRoleEntity.class);
+    }
+}
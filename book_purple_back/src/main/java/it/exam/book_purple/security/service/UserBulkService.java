@@ -0,0 +1,334 @@
+package it.exam.book_purple.security.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import it.exam.book_purple.common.utils.CsvUtils;
+import it.exam.book_purple.common.utils.TimeFormatUtils;
+import it.exam.book_purple.security.dto.UserExportDTO;
+import it.exam.book_purple.security.dto.UserImportJob;
+import it.exam.book_purple.security.dto.UserImportResultDTO;
+import it.exam.book_purple.security.entity.UserEntity;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+import it.exam.book_purple.security.repository.UserQueryRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 CSV 가져오기/내보내기
+ * 가져오기 : chunk-size 건씩 트랜잭션을 나눠서 persist (save 는 id 가 있으면 merge 라 건마다 select 발생)
+ *           hibernate.jdbc.batch_size 로 insert 를 묶어서 전송
+ *           평문 bcrypt 가 오래 걸리므로 요청에서는 작업만 등록하고 전용 스레드에서 실행 (jobId 로 조회)
+ * 내보내기 : 전체를 메모리에 올리지 않고 fetch-size 만큼씩 읽으면서 바로 씀
+ */
+@Service
+@Slf4j
+public class UserBulkService {
+
+    public static final String[] IMPORT_HEADER =
+            {"userId", "passwd", "userName", "birth", "gender", "phone", "email", "addr", "addrDetail", "useYn", "roleId"};
+
+    public static final String[] EXPORT_HEADER =
+            {"userId", "userName", "birth", "gender", "phone", "email", "addr", "addrDetail", "useYn", "delYn", "roleId", "createDate"};
+
+    // 로그인에 쓸 수 있는 암호화 값은 bcrypt 뿐 ({bcrypt}$2a$10$ + 53자)
+    private static final Pattern BCRYPT_PASSWD = Pattern.compile("^\\{bcrypt\\}\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UserQueryRepository userQueryRepository;
+    private final UserListService userListService;
+    private final UserSearchService userSearchService;
+    private final DelegatingPasswordEncoder passwordEncoder;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int fetchSize;
+
+    // 가져오기 전용 스레드 (요청 스레드, 로그인 검증 풀과 따로)
+    private final ThreadPoolExecutor importWorker;
+    // 끝난 작업도 일정 시간 조회할 수 있도록 보관
+    private final Cache<String, UserImportJob> importJobs;
+
+    public UserBulkService(UserQueryRepository userQueryRepository,
+                           UserListService userListService,
+                           UserSearchService userSearchService,
+                           DelegatingPasswordEncoder passwordEncoder,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${spring.user.import.chunk-size:500}") int chunkSize,
+                           @Value("${spring.user.import.queue-size:4}") int importQueueSize,
+                           @Value("${spring.user.export.fetch-size:1000}") int fetchSize){
+        this.userQueryRepository = userQueryRepository;
+        this.userListService = userListService;
+        this.userSearchService = userSearchService;
+        this.passwordEncoder = passwordEncoder;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+
+        // chunk 마다 새 트랜잭션 (실패한 chunk 만 롤백)
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 한번에 하나씩 (chunk 트랜잭션이 커넥션을 여러개 잡지 않도록), 대기열이 가득 차면 거절
+        this.importWorker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                new ArrayBlockingQueue<>(importQueueSize),
+                                r -> {
+                                    Thread t = new Thread(r, "user-import");
+                                    t.setDaemon(true);
+                                    return t;
+                                },
+                                new ThreadPoolExecutor.AbortPolicy());
+        this.importJobs = Caffeine.newBuilder()
+                            .maximumSize(1_000)
+                            .expireAfterWrite(Duration.ofHours(1))
+                            .build();
+    }
+
+    /**
+     * 회원 가져오기 작업 등록 (바로 리턴)
+     * @param csvFile 업로드를 복사한 임시 파일, 작업이 끝나면 삭제
+     * @return 작업 정보 (jobId 로 상태/결과 조회)
+     */
+    public UserImportJob submitImport(Path csvFile) throws IOException{
+        String jobId = UUID.randomUUID().toString().replaceAll("-", "");
+        UserImportJob job = new UserImportJob(jobId);
+
+        importJobs.put(jobId, job);
+        try{
+            importWorker.execute(() -> runImport(job, csvFile));
+        }catch(RejectedExecutionException e){
+            importJobs.invalidate(jobId);
+            Files.deleteIfExists(csvFile);
+            throw new RuntimeException("회원 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job;
+    }
+
+    /**
+     * 가져오기 작업 조회
+     * @param jobId
+     * @return 없거나 오래된 작업이면 null
+     */
+    public UserImportJob getImportJob(String jobId){
+        return importJobs.getIfPresent(jobId);
+    }
+
+    /**
+     * 회원 가져오기
+     * 첫 줄은 헤더 (IMPORT_HEADER 순서)
+     * passwd 가 {bcrypt}$2a$.. 형식이면 암호화된 값으로 보고 그대로 저장 (평문은 건마다 bcrypt 라 느림)
+     * 다른 {id} 로 시작하면 로그인할 수 없는 값이라 오류 처리
+     * 평문 암호화는 로그인 검증 풀을 쓰지 않고 호출한 스레드에서 바로 실행 (풀이 가득 차도 중간에 멈추지 않도록)
+     * 요청에서는 submitImport 로 등록 (가져오기 스레드에서 실행)
+     * @param in CSV (UTF-8)
+     */
+    public UserImportResultDTO importUsers(InputStream in) throws IOException{
+
+        UserImportResultDTO result = new UserImportResultDTO();
+        Set<String> userIds = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int chunkNo = 0;
+
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))){
+            String line = reader.readLine();
+            if(line == null){
+                return result;
+            }
+            checkHeader(line);
+
+            int lineNo = 1;
+            while((line = reader.readLine()) != null){
+                lineNo++;
+                if(line.isBlank()){
+                    continue;
+                }
+                result.addTotal();
+
+                List<String> values = CsvUtils.parseLine(line);
+                String error = validate(values, userIds);
+                if(error != null){
+                    result.addError(0, lineNo, lineNo, 1, error);
+                    continue;
+                }
+
+                // bcrypt 는 느리므로 트랜잭션(커넥션) 밖에서 미리 암호화
+                String passwd = values.get(1);
+                chunk.add(new ImportRow(lineNo, values, passwd.startsWith("{") ? passwd : passwordEncoder.encode(passwd)));
+                if(chunk.size() == chunkSize){
+                    saveChunk(++chunkNo, chunk, result);
+                    chunk.clear();
+                }
+            }
+
+            if(!chunk.isEmpty()){
+                saveChunk(++chunkNo, chunk, result);
+            }
+        }finally{
+            // 목록 건수 캐시 바로 반영
+            if(result.getSuccessRows() > 0){
+                userListService.evictTotalCount();
+                userSearchService.evictCounts();
+            }
+        }
+
+        return result;
+    }
+
+    private void runImport(UserImportJob job, Path csvFile){
+        job.running();
+
+        try(InputStream in = Files.newInputStream(csvFile)){
+            UserImportResultDTO result = importUsers(in);
+            log.info("회원 가져오기 완료 {} : {}건 중 {}건 저장", job.getJobId(), result.getTotalRows(), result.getSuccessRows());
+            job.done(result);
+
+        }catch(Exception e){
+            log.warn("회원 가져오기 실패 {} : {}", job.getJobId(), e.getMessage());
+            job.failed(e.getMessage());
+        }finally{
+            try{
+                Files.deleteIfExists(csvFile);
+            }catch(IOException e){
+                log.warn("가져오기 임시 파일 삭제 실패 : {}", csvFile);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        importWorker.shutdownNow();
+    }
+
+    /**
+     * 회원 내보내기 (가입순)
+     * @param writer 응답 스트림, fetch-size 만큼씩 읽으면서 바로 씀
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(Writer writer) throws IOException{
+        writer.write(CsvUtils.BOM);
+        CsvUtils.writeLine(writer, EXPORT_HEADER);
+
+        try(Stream<UserExportDTO> users = userQueryRepository.streamUserExport(fetchSize)){
+            for(UserExportDTO user : (Iterable<UserExportDTO>) users::iterator){
+                CsvUtils.writeLine(writer,
+                        user.getUserId(), user.getUserName(), user.getBirth(), user.getGender(),
+                        user.getPhone(), user.getEmail(), user.getAddr(), user.getAddrDetail(),
+                        user.getUseYn(), user.getDelYn(), user.getRoleId(),
+                        user.getCreateDate() == null ? null : TimeFormatUtils.getDateTime(user.getCreateDate()));
+            }
+        }
+        writer.flush();
+    }
+
+    // 한 chunk 저장, 실패하면 chunk 전체 롤백 후 줄 범위와 함께 기록
+    private void saveChunk(int chunkNo, List<ImportRow> chunk, UserImportResultDTO result){
+        int fromLine = chunk.get(0).lineNo();
+        int toLine = chunk.get(chunk.size() - 1).lineNo();
+
+        try{
+            chunkTransaction.executeWithoutResult(status -> {
+                for(ImportRow row : chunk){
+                    entityManager.persist(toEntity(row));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            result.addSuccess(chunk.size());
+
+        }catch(RuntimeException e){
+            Throwable cause = e;
+            while(cause.getCause() != null){
+                cause = cause.getCause();
+            }
+            log.warn("회원 가져오기 실패 chunk {} ({} ~ {} 줄) : {}", chunkNo, fromLine, toLine, cause.getMessage());
+            result.addError(chunkNo, fromLine, toLine, chunk.size(), cause.getMessage());
+        }
+    }
+
+    private UserEntity toEntity(ImportRow row){
+        List<String> values = row.values();
+
+        UserEntity user = new UserEntity();
+        user.setUserId(values.get(0).trim());
+        user.setPasswd(row.passwd());
+        user.setUserName(values.get(2).trim());
+        user.setBirth(emptyToNull(values.get(3)));
+        user.setGender(emptyToNull(values.get(4)));
+        user.setPhone(emptyToNull(values.get(5)));
+        user.setEmail(emptyToNull(values.get(6)));
+        user.setAddr(emptyToNull(values.get(7)));
+        user.setAddrDetail(emptyToNull(values.get(8)));
+        user.setUseYn(StringUtils.hasText(values.get(9)) ? values.get(9).trim().toUpperCase() : "Y");
+        user.setDelYn("N");
+        // select 없이 FK 값만 사용
+        user.setRole(entityManager.getReference(UserRoleEntity.class, values.get(10).trim().toUpperCase()));
+        return user;
+    }
+
+    private static String validate(List<String> values, Set<String> userIds){
+        if(values.size() != IMPORT_HEADER.length){
+            return "항목 수가 맞지 않습니다. (" + values.size() + "/" + IMPORT_HEADER.length + ")";
+        }
+        if(!StringUtils.hasText(values.get(0)) || !StringUtils.hasText(values.get(1))
+                || !StringUtils.hasText(values.get(2)) || !StringUtils.hasText(values.get(10))){
+            return "userId, passwd, userName, roleId 는 필수입니다.";
+        }
+        String passwd = values.get(1);
+        if(passwd.startsWith("{") && !BCRYPT_PASSWD.matcher(passwd).matches()){
+            return "passwd 는 평문 또는 {bcrypt} 암호화 값만 가능합니다.";
+        }
+        if(!userIds.add(values.get(0).trim())){
+            return "파일 안에 같은 userId 가 있습니다. : " + values.get(0).trim();
+        }
+        return null;
+    }
+
+    private static void checkHeader(String line){
+        if(!line.isEmpty() && line.charAt(0) == CsvUtils.BOM){
+            line = line.substring(1);
+        }
+        List<String> header = CsvUtils.parseLine(line);
+        if(!header.equals(List.of(IMPORT_HEADER))){
+            throw new RuntimeException("CSV 헤더가 맞지 않습니다. " + String.join(",", IMPORT_HEADER));
+        }
+    }
+
+    private static String emptyToNull(String value){
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+
+    private record ImportRow(int lineNo, List<String> values, String passwd){
+    }
+}
@@ -0,0 +1,84 @@
+package it.exam.book_purple.security.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import it.exam.book_purple.common.dto.CursorResponse;
+import it.exam.book_purple.security.dto.UserCursor;
+import it.exam.book_purple.security.dto.UserListDTO;
+import it.exam.book_purple.security.repository.UserQueryRepository;
+import it.exam.book_purple.security.repository.UserRepository;
+
+/**
+ * 회원 목록 (커서 방식)
+ * OFFSET 없이 마지막으로 본 (createDate, userId) 다음부터 조회하므로 뒤 페이지도 첫 페이지와 같은 속도
+ * 목록은 화면에 나오는 컬럼만 DTO 로 조회
+ * 전체 건수는 매 페이지마다 세지 않고, 요청한 경우에만 캐시된 값을 돌려줌
+ */
+@Service
+public class UserListService {
+
+    private static final String TOTAL_KEY = "user";
+
+    private final UserRepository userRepository;
+    private final UserQueryRepository userQueryRepository;
+    private final int maxSize;
+
+    // 전체 건수 : 갱신 주기가 지나면 기존 값을 주면서 백그라운드에서 다시 셈
+    private final LoadingCache<String, Long> totalCount;
+
+    public UserListService(UserRepository userRepository,
+                           UserQueryRepository userQueryRepository,
+                           @Value("${spring.user.list.max-size:100}") int maxSize,
+                           @Value("${spring.user.list.count-refresh:60000}") long countRefreshMillis){
+        this.userRepository = userRepository;
+        this.userQueryRepository = userQueryRepository;
+        this.maxSize = maxSize;
+        this.totalCount = Caffeine.newBuilder()
+                            .refreshAfterWrite(Duration.ofMillis(countRefreshMillis))
+                            .build(key -> userRepository.count());
+    }
+
+    /**
+     * 회원 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param withTotal 전체 건수 포함 여부 (페이지 번호 표시용)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<UserListDTO> getUsers(String cursor, int size, boolean withTotal){
+
+        int pageSize = Math.max(1, Math.min(size, maxSize));
+        UserCursor after = UserCursor.decode(cursor);
+
+        // 다음 페이지 확인용으로 1건 더 조회 (count 없음)
+        List<UserListDTO> rows = userQueryRepository.findUserList(after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<UserListDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Slice<UserListDTO> slice = new SliceImpl<>(content, PageRequest.ofSize(pageSize), hasNext);
+        String nextCursor = hasNext ? UserCursor.of(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorResponse<>(slice, nextCursor, withTotal ? getTotalCount() : null);
+    }
+
+    // 캐시된 전체 회원 수
+    public long getTotalCount(){
+        return totalCount.get(TOTAL_KEY);
+    }
+
+    // 회원 추가, 삭제 후 바로 반영이 필요할 때
+    public void evictTotalCount(){
+        totalCount.invalidateAll();
+    }
+}
@@ -0,0 +1,110 @@
+package it.exam.book_purple.security.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import it.exam.book_purple.security.dto.UserListDTO;
+import it.exam.book_purple.security.dto.UserSearchDTO;
+import it.exam.book_purple.security.repository.UserQueryRepository;
+
+/**
+ * 회원 검색 (페이지 번호 방식)
+ * 목록과 건수를 나눠서 조회
+ * - 목록 : 화면에 나오는 컬럼만 DTO 로, count 없이 size + 1 건
+ * - 건수 : join 없이 count, 같은 검색 조건이면 짧은 시간 캐시
+ * 마지막 페이지(다음 페이지 없음)면 건수를 세지 않고 계산해서 캐시에 저장
+ */
+@Service
+public class UserSearchService {
+
+    private final UserQueryRepository userQueryRepository;
+    private final int maxSize;
+
+    // key : 정리된 검색 조건
+    private final Cache<String, Long> countCache;
+
+    private final LongAdder countQueryCount = new LongAdder();
+    private final LongAdder exactFromPageCount = new LongAdder();
+
+    public UserSearchService(UserQueryRepository userQueryRepository,
+                             @Value("${spring.user.list.max-size:100}") int maxSize,
+                             @Value("${spring.user.search.count-ttl:30000}") long countTtlMillis,
+                             @Value("${spring.user.search.count-cache-size:1000}") long countCacheSize){
+        this.userQueryRepository = userQueryRepository;
+        this.maxSize = maxSize;
+        this.countCache = Caffeine.newBuilder()
+                            .maximumSize(countCacheSize)
+                            .expireAfterWrite(Duration.ofMillis(countTtlMillis))
+                            .recordStats()
+                            .build();
+    }
+
+    /**
+     * 회원 검색
+     * @param search 검색 조건
+     * @param page 0 부터
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public Page<UserListDTO> searchUsers(UserSearchDTO search, int page, int size){
+
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, maxSize)));
+        String cacheKey = search.toCacheKey();
+
+        // 다음 페이지 확인용으로 1건 더 조회 (count 없음)
+        List<UserListDTO> rows = userQueryRepository.searchUserList(search, pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<UserListDTO> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        long total;
+        if(!hasNext && (!content.isEmpty() || pageable.getPageNumber() == 0)){
+            // 마지막 페이지 : 앞 페이지 건수 + 이번 페이지 건수가 정확한 전체 건수
+            total = pageable.getOffset() + content.size();
+            countCache.put(cacheKey, total);
+            exactFromPageCount.increment();
+        }else{
+            total = countCache.get(cacheKey, key -> {
+                countQueryCount.increment();
+                return userQueryRepository.countUsers(search);
+            });
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 회원 추가, 삭제, 수정 후 바로 반영이 필요할 때
+    public void evictCounts(){
+        countCache.invalidateAll();
+    }
+
+    // TTL 조정용 지표
+    public Map<String, Object> getStats(){
+        CacheStats stats = countCache.stats();
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("size", countCache.estimatedSize());
+        resultMap.put("hitCount", stats.hitCount());
+        resultMap.put("missCount", stats.missCount());
+        resultMap.put("hitRate", stats.hitRate());
+        resultMap.put("evictionCount", stats.evictionCount());
+        resultMap.put("countQueryCount", countQueryCount.sum());
+        resultMap.put("exactFromPageCount", exactFromPageCount.sum());
+
+        return resultMap;
+    }
+}
@@ -1,10 +1,13 @@
 package it.exam.book_purple.security.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import it.exam.book_purple.security.dto.UserSecureDTO;
 import it.exam.book_purple.security.entity.UserEntity;
@@ -13,7 +16,7 @@ import it.exam.book_purple.security.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
-public class UserServiceDetails implements UserDetailsService{
+public class UserServiceDetails implements UserDetailsService, UserDetailsPasswordService{
   
     private final UserRepository userRepository;
   
@@ -21,11 +24,31 @@ public class UserServiceDetails implements UserDetailsService{
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
         UserEntity user =
-            userRepository.findById(username)
+            userRepository.findWithRoleByUserId(username)
             .orElseThrow(() -> new UsernameNotFoundException(username + "을 찾을 수 없습니다."));
 
+        // 사용 중지된 권한이면 로그인 불가 (권한 없는 토큰을 발급하지 않도록)
+        if(!"Y".equals(user.getRole().getUseYn())){
+            throw new DisabledException(username + "의 권한이 사용 중지되었습니다.");
+        }
+
         return new UserSecureDTO(user.getUserId(), user.getUserName(),
                         user.getPasswd(), user.getRole().getRoleId());
     }
 
+    // 로그인 성공 후 해시 cost 가 설정보다 낮으면 새 해시로 교체
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+
+        UserEntity user =
+            userRepository.findWithRoleByUserId(userDetails.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException(userDetails.getUsername() + "을 찾을 수 없습니다."));
+
+        user.setPasswd(newPassword);
+
+        return new UserSecureDTO(user.getUserId(), user.getUserName(),
+                        newPassword, user.getRole().getRoleId());
+    }
+
 }
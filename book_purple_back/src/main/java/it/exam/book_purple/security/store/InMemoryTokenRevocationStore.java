@@ -0,0 +1,53 @@
+package it.exam.book_purple.security.store;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 메모리에 저장하는 토큰 폐기 목록
+ * jti -> 만료시간, 만료된 토큰은 주기적으로 정리
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final ConcurrentMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean revoke(String tokenId, long expiration) {
+        if(tokenId == null || expiration <= System.currentTimeMillis()){
+            return false;
+        }
+        return revoked.putIfAbsent(tokenId, expiration) == null;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if(tokenId == null){
+            return false;
+        }
+        Long expiration = revoked.get(tokenId);
+        return expiration != null && expiration > System.currentTimeMillis();
+    }
+
+    @Override
+    public long size() {
+        return revoked.size();
+    }
+
+    // 만료된 토큰은 어차피 검증에서 걸리므로 목록에서 제거
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.sweep-interval:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiration -> expiration <= now);
+        log.debug("만료된 폐기 토큰 정리 : {}건", before - revoked.size());
+    }
+}
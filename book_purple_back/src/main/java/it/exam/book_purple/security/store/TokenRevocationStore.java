@@ -0,0 +1,29 @@
+package it.exam.book_purple.security.store;
+
+/**
+ * 폐기된 토큰(jti) 저장소
+ * refresh 토큰 family 도 같은 저장소에 폐기 (둘 다 UUID 라 겹치지 않음)
+ * JWTFilter 에서 매 요청마다 조회하므로 O(1) 조회가 가능해야 한다
+ * 서버가 여러대라면 공유 저장소(Redis 등) 구현체로 교체
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 토큰 폐기
+     * @param tokenId jti
+     * @param expiration 토큰 만료시간 (epoch millis), 이후에는 기록을 지워도 된다
+     * @return 이번 호출로 폐기됐으면 true, 이미 폐기된 토큰이면 false
+     */
+    boolean revoke(String tokenId, long expiration);
+
+    /**
+     * 폐기 여부 조회
+     * @param tokenId jti
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 아직 폐기된 상태로 남아있는 토큰 수
+     */
+    long size();
+}
@@ -0,0 +1,115 @@
+package it.exam.book_purple.common.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// H2 메모리 DB 를 실제 Hikari 풀로 감싸서 부하를 주고 지표/크기 조절 확인
+class AdaptivePoolSizerTest {
+
+    private HikariDataSource dataSource;
+    private PoolTelemetry telemetry;
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsAcquireWaitUsageAndPendingThreads() throws Exception {
+        start(2);
+        long acquireCount = telemetry.getAcquireCount();
+
+        int maxPending = 0;
+        List<Future<?>> futures = load(6, 100);
+        while(!futures.stream().allMatch(Future::isDone)){
+            maxPending = Math.max(maxPending, telemetry.getPendingThreads());
+            Thread.sleep(5);
+        }
+
+        assertThat(maxPending).isPositive();
+        assertThat(telemetry.getAcquireCount() - acquireCount).isEqualTo(6);
+        assertThat(telemetry.getInUse()).isZero();
+
+        Map<String, Object> stats = telemetry.getStats();
+        // 시작할 때 한번 + 6번
+        assertThat((Map<String, Object>) stats.get("usage")).containsEntry("count", 7L);
+        // 2개씩 3번에 나눠 처리되므로 대기한 요청이 있음
+        assertThat((double) ((Map<String, Object>) stats.get("acquire")).get("maxMillis")).isGreaterThan(50);
+    }
+
+    @Test
+    void shrinksWhenIdleAndGrowsBackUnderLoad() throws Exception {
+        start(8);
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(telemetry, 2, 5, 0.5, 2);
+
+        // 부하 없음 : 2번 연속 한가하면 25% 씩 줄임
+        for(int i = 0; i < 10; i++){
+            sizer.tick();
+        }
+        assertThat(sizer.getCurrentSize()).isEqualTo(2);
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(2);
+
+        // 풀보다 많은 동시 요청 : 대기가 생기면 늘림 (설정한 최대값까지)
+        List<Integer> sizes = new ArrayList<>();
+        for(int i = 0; i < 8; i++){
+            for(Future<?> future : load(12, 30)){
+                future.get();
+            }
+            sizes.add(sizer.tick());
+        }
+        assertThat(sizes.get(0)).isEqualTo(3);
+        assertThat(sizes).isSorted().allMatch(size -> size <= 8);
+        assertThat(sizer.getCurrentSize()).isEqualTo(8);
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(8);
+    }
+
+    private void start(int maxPoolSize) throws Exception {
+        telemetry = new PoolTelemetry();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:pool-" + maxPoolSize + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(maxPoolSize);
+        dataSource.setMinimumIdle(maxPoolSize);
+        dataSource.setConnectionTimeout(5000);
+        dataSource.setMetricsTrackerFactory(telemetry);
+        telemetry.bind(dataSource);
+
+        // 풀 시작
+        dataSource.getConnection().close();
+        telemetry.getAndResetPeakInUse();
+        while(dataSource.getHikariPoolMXBean().getTotalConnections() < maxPoolSize){
+            Thread.sleep(10);
+        }
+    }
+
+    // 동시에 threads 개가 커넥션을 holdMillis 동안 사용
+    private List<Future<?>> load(int threads, long holdMillis){
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < threads; i++){
+            futures.add(executor.submit(() -> {
+                try(Connection connection = dataSource.getConnection()){
+                    connection.createStatement().execute("select 1");
+                    Thread.sleep(holdMillis);
+                }
+                return null;
+            }));
+        }
+        executor.shutdown();
+        return futures;
+    }
+}
@@ -0,0 +1,65 @@
+package it.exam.book_purple.common.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.p6spy.engine.common.ConnectionInformation;
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.common.StatementInformation;
+
+class SqlMetricsListenerTest {
+
+    private final ConnectionInformation connection = ConnectionInformation.fromTestConnection(null);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void groupsStatementsByFingerprintAndSamplesSlowOnes() {
+        SqlMetricsListener listener = new SqlMetricsListener(true, false, 100, 1000, 10, 500);
+
+        listener.onAfterAnyExecute(prepared("select * from user where user_id = ?"), 2_000_000, null);
+        listener.onAfterAnyExecute(prepared("select * from user where user_id = ?"), 150_000_000, null);
+        // 값이 직접 들어간 SQL 도 같은 지문
+        listener.onAfterAnyExecute(statement("select * from user where user_id = 'a'   and age > 10"), 1_000_000, null);
+        listener.onAfterAnyExecute(statement("select * from user where user_id = 'b' and age > 20"), 1_000_000, null);
+
+        List<Map<String, Object>> statements = (List<Map<String, Object>>) listener.getStats(10).get("statements");
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0))
+            .containsEntry("fingerprint", "select * from user where user_id = ?")
+            .containsEntry("count", 2L)
+            .containsEntry("slowCount", 1L)
+            .containsEntry("p50Millis", 2.5);
+        assertThat(statements.get(1))
+            .containsEntry("fingerprint", "select * from user where user_id = ? and age > ?")
+            .containsEntry("count", 2L);
+
+        assertThat(listener.getSlowQueries()).hasSize(1);
+        assertThat(listener.getSlowQueries().get(0)).containsEntry("elapsedMillis", 150.0);
+    }
+
+    @Test
+    void recordsNothingWhenDisabled() {
+        SqlMetricsListener listener = new SqlMetricsListener(false, false, 100, 1000, 10, 500);
+
+        listener.onAfterAnyExecute(prepared("select 1"), 200_000_000, null);
+        assertThat(listener.getStats(10)).containsEntry("fingerprintCount", 0);
+
+        listener.setEnabled(true);
+        listener.onAfterAnyExecute(prepared("select 1"), 200_000_000, null);
+        assertThat(listener.getStats(10)).containsEntry("fingerprintCount", 1);
+    }
+
+    private StatementInformation prepared(String sql){
+        return new PreparedStatementInformation(connection, sql);
+    }
+
+    private StatementInformation statement(String sql){
+        StatementInformation statementInformation = new StatementInformation(connection);
+        statementInformation.setStatementQuery(sql);
+        return statementInformation;
+    }
+}
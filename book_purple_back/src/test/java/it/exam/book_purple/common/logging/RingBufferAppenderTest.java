@@ -0,0 +1,106 @@
+package it.exam.book_purple.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.util.Duration;
+
+class RingBufferAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger writtenWarn = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        context.stop();
+    }
+
+    @Test
+    void keepWarnDropsInfoFirstWhenWriterIsStuck() {
+        RingBufferAppender appender = start(RingBufferAppender.DropPolicy.KEEP_WARN);
+        Logger logger = context.getLogger("test");
+
+        // 쓰는 스레드가 첫 로그에서 멈춤 -> 버퍼 16 칸 중 12 칸 정도까지 INFO, 나머지 4 칸은 WARN 몫
+        for(int i = 0; i < 40; i++){
+            logger.info("info {}", i);
+        }
+        for(int i = 0; i < 5; i++){
+            logger.warn("warn {}", i);
+        }
+
+        long droppedInfo = appender.getDroppedCount(Level.INFO);
+        long droppedWarn = appender.getDroppedCount(Level.WARN);
+        assertThat(droppedInfo).isBetween(26L, 28L);
+
+        release.countDown();
+        appender.stop();
+        assertThat(written.get()).isEqualTo(45 - droppedInfo - droppedWarn);
+        assertThat(writtenWarn.get()).isGreaterThanOrEqualTo(3);
+        assertThat(appender.getStats()).containsEntry("appended", (long) written.get())
+                                       .containsEntry("dropped", droppedInfo + droppedWarn);
+    }
+
+    @Test
+    void dropPolicyNeverWaits() {
+        RingBufferAppender appender = start(RingBufferAppender.DropPolicy.DROP);
+        Logger logger = context.getLogger("test");
+
+        long start = System.nanoTime();
+        for(int i = 0; i < 100; i++){
+            logger.error("error {}", i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(appender.getDroppedCount(Level.ERROR)).isGreaterThanOrEqualTo(83);
+        assertThat(elapsedMillis).isLessThan(100);
+    }
+
+    private RingBufferAppender start(RingBufferAppender.DropPolicy dropPolicy){
+        AppenderBase<ILoggingEvent> stuck = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try{
+                    release.await();
+                }catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
+                written.incrementAndGet();
+                if(event.getLevel() == Level.WARN){
+                    writtenWarn.incrementAndGet();
+                }
+            }
+        };
+        stuck.setContext(context);
+        stuck.start();
+
+        RingBufferAppender appender = new RingBufferAppender();
+        appender.setContext(context);
+        appender.setName("ring-" + dropPolicy);
+        appender.setRingBufferSize(16);
+        appender.setWarnReserve(4);
+        appender.setDropPolicy(dropPolicy);
+        appender.setAppendTimeout(Duration.buildByMilliseconds(50));
+        appender.setAddDefaultStatusListener(false);
+        appender.addAppender(stuck);
+        appender.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        return appender;
+    }
+}
@@ -0,0 +1,50 @@
+package it.exam.book_purple.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+
+class TraceIdFilterTest {
+
+    private final TraceIdFilter filter = new TraceIdFilter();
+
+    @Test
+    void continuesIncomingTraceAndClearsMdcAfterRequest() throws Exception {
+        AtomicReference<String> traceId = new AtomicReference<>();
+        AtomicReference<String> spanId = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(jakarta.servlet.http.HttpServletRequest req, jakarta.servlet.http.HttpServletResponse resp) {
+                traceId.set(MDC.get(TraceIdFilter.TRACE_ID));
+                spanId.set(MDC.get(TraceIdFilter.SPAN_ID));
+            }
+        });
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users");
+        request.addHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        assertThat(traceId.get()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(spanId.get()).hasSize(16).isNotEqualTo("00f067aa0ba902b7");
+        assertThat(response.getHeader(TraceIdFilter.TRACE_ID_HEADER)).isEqualTo(traceId.get());
+        assertThat(MDC.get(TraceIdFilter.TRACE_ID)).isNull();
+        assertThat(MDC.get(TraceIdFilter.SPAN_ID)).isNull();
+    }
+
+    @Test
+    void invalidTraceparentStartsNewTrace() {
+        assertThat(TraceIdFilter.parseTraceId(null)).isNull();
+        assertThat(TraceIdFilter.parseTraceId("00-00000000000000000000000000000000-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceIdFilter.parseTraceId("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceIdFilter.parseTraceId("garbage")).isNull();
+    }
+}
@@ -0,0 +1,51 @@
+package it.exam.book_purple.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class MetricsScrapeFilterTest {
+
+    @AfterEach
+    void tearDown(){
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void acceptsConfiguredTokenFromAllowedIpOnly() throws Exception {
+        MetricsScrapeFilter filter = new MetricsScrapeFilter("secret", List.of("10.0.0.5"));
+
+        assertThat(scrape(filter, "10.0.0.5", "Bearer secret").getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+            .extracting(Object::toString).containsExactly(MetricsScrapeFilter.ROLE);
+
+        assertThat(scrape(filter, "10.0.0.6", "Bearer secret").getStatus()).isEqualTo(401);
+        assertThat(scrape(filter, "10.0.0.5", "Bearer wrong").getStatus()).isEqualTo(401);
+        assertThat(scrape(filter, "10.0.0.5", null).getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void rejectsEverythingWhenTokenIsNotConfigured() throws Exception {
+        MetricsScrapeFilter filter = new MetricsScrapeFilter("", List.of());
+
+        assertThat(scrape(filter, "127.0.0.1", "Bearer ").getStatus()).isEqualTo(401);
+    }
+
+    private static MockHttpServletResponse scrape(MetricsScrapeFilter filter, String ip, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/metrics");
+        request.setRemoteAddr(ip);
+        if(authorization != null){
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
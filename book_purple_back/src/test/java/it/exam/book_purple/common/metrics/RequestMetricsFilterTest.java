@@ -0,0 +1,95 @@
+package it.exam.book_purple.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class RequestMetricsFilterTest {
+
+    private final RequestMetrics requestMetrics = new RequestMetrics(500);
+
+    // 컨트롤러 대신 : 패턴 등록 후 20ms
+    private final HttpServlet controller = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/admin/users/{id}");
+            sleep(20);
+            response.setStatus(404);
+        }
+    };
+
+    @Test
+    void recordsTemplatedRouteStatusAndPhases() throws Exception {
+        Filter jwt = (request, response, chain) -> {
+            sleep(10);
+            chain.doFilter(request, response);
+        };
+
+        for(String id : new String[]{"1", "2"}){
+            run(new MockHttpServletRequest("GET", "/api/v1/admin/users/" + id),
+                new RequestMetricsFilter(requestMetrics),
+                PhaseTimingFilter.self(RequestPhase.JWT, jwt),
+                PhaseTimingFilter.downstream(RequestPhase.CONTROLLER));
+        }
+
+        String text = prometheus();
+        String labels = "method=\"GET\",route=\"/api/v1/admin/users/{id}\"";
+        assertThat(text)
+            .contains("http_server_requests_seconds_count{" + labels + "} 2")
+            .contains("http_server_requests_seconds_bucket{" + labels + ",le=\"0.025\"} 0")
+            .contains("http_server_requests_seconds_bucket{" + labels + ",le=\"+Inf\"} 2")
+            .contains("http_server_responses_total{" + labels + ",status=\"404\"} 2")
+            // JWT 자체 시간은 컨트롤러 시간 제외 (10ms 대)
+            .contains("http_server_phase_seconds_bucket{phase=\"jwt\"," + labels + ",le=\"0.005\"} 0")
+            .contains("http_server_phase_seconds_bucket{phase=\"jwt\"," + labels + ",le=\"0.025\"} 2")
+            .contains("http_server_phase_seconds_count{phase=\"controller\"," + labels + "} 2")
+            .doesNotContain("phase=\"login\"")
+            .contains("http_server_requests_in_flight 0");
+        assertThat(text).doesNotContain("/api/v1/admin/users/1");
+    }
+
+    @Test
+    void routeFallsBackToFilterThatAnswered() throws Exception {
+        // 로그인 필터처럼 다음으로 넘기지 않고 직접 응답
+        Filter login = (request, response, chain) -> ((HttpServletResponse) response).setStatus(401);
+
+        run(new MockHttpServletRequest("POST", "/api/v1/login"),
+            new RequestMetricsFilter(requestMetrics),
+            PhaseTimingFilter.self(RequestPhase.LOGIN, login),
+            PhaseTimingFilter.downstream(RequestPhase.CONTROLLER));
+
+        assertThat(prometheus())
+            .contains("http_server_responses_total{method=\"POST\",route=\"filter:login\",status=\"401\"} 1")
+            .contains("http_server_phase_seconds_count{phase=\"login\",method=\"POST\",route=\"filter:login\"} 1")
+            .doesNotContain("phase=\"controller\"");
+    }
+
+    private void run(MockHttpServletRequest request, Filter... filters) throws Exception {
+        new MockFilterChain(controller, filters).doFilter(request, new MockHttpServletResponse());
+    }
+
+    private String prometheus() throws Exception {
+        StringWriter writer = new StringWriter();
+        requestMetrics.writePrometheus(writer);
+        return writer.toString();
+    }
+
+    private static void sleep(long millis){
+        try{
+            Thread.sleep(millis);
+        }catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package it.exam.book_purple.common.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import it.exam.book_purple.common.utils.FileUtils;
+class HotImageResourceResolverTest {
+
+    @TempDir
+    Path dir;
+
+    private final FileUtils fileUtils = new FileUtils();
+    private HotImageResourceResolver resolver;
+    private ResourceResolverChain chain;
+    private List<Resource> locations;
+
+    @BeforeEach
+    void setUp(){
+        resolver = new HotImageResourceResolver(1024 * 1024, 1024);
+        fileUtils.addDeleteListener(resolver::invalidate);
+        PathResourceResolver pathResolver = new PathResourceResolver();
+        chain = new ResourceResolverChain() {
+            @Override
+            public Resource resolveResource(HttpServletRequest request, String requestPath, List<? extends Resource> locations) {
+                return pathResolver.resolveResource(request, requestPath, locations, null);
+            }
+
+            @Override
+            public String resolveUrlPath(String resourcePath, List<? extends Resource> locations) {
+                return pathResolver.resolveUrlPath(resourcePath, locations, null);
+            }
+        };
+        locations = List.of(new FileSystemResource(dir.toString() + "/"));
+    }
+
+    @Test
+    void servesRepeatedRequestsFromMemoryUntilDeleted() throws Exception {
+        Map<String, Object> upload = fileUtils.uploadFile(new ByteArrayInputStream(new byte[]{1, 2, 3}), "a.png", dir.toString());
+        String name = (String) upload.get("storedFileName");
+
+        Resource first = resolve(name);
+        Resource second = resolve(name);
+
+        assertThat(second).isInstanceOf(CachedImageResource.class).isSameAs(first);
+        assertThat(second.getInputStream().readAllBytes()).containsExactly(1, 2, 3);
+        assertThat(resolver.getStats()).containsEntry("hitCount", 1L).containsEntry("bytes", 3L);
+
+        fileUtils.deleteFile(dir.resolve(name).toString());
+
+        assertThat(resolver.getStats()).containsEntry("size", 0L);
+        assertThat(resolve(name)).isNull();
+    }
+
+    @Test
+    void reloadsWhenFileChangesOnDisk() throws Exception {
+        Path file = dir.resolve("c.png");
+        Files.write(file, new byte[]{1, 2});
+        assertThat(resolve("c.png").getInputStream().readAllBytes()).containsExactly(1, 2);
+
+        Files.write(file, new byte[]{3, 4, 5});
+
+        assertThat(resolve("c.png").getInputStream().readAllBytes()).containsExactly(3, 4, 5);
+        assertThat(resolver.getStats()).containsEntry("staleCount", 1L).containsEntry("bytes", 3L);
+    }
+
+    @Test
+    void largeFilesStayOnDisk() throws Exception {
+        Map<String, Object> upload = fileUtils.uploadFile(new ByteArrayInputStream(new byte[2048]), "b.png", dir.toString());
+
+        assertThat(resolve((String) upload.get("storedFileName"))).isNotInstanceOf(CachedImageResource.class);
+    }
+
+    private Resource resolve(String name){
+        return resolver.resolveResource(new MockHttpServletRequest(), name, locations, chain);
+    }
+}
@@ -0,0 +1,146 @@
+package it.exam.book_purple.common.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import it.exam.book_purple.common.utils.Precompressor;
+
+class ImageResourceHandlerTest {
+
+    private static final String HASH_NAME = "a".repeat(64) + ".png";
+
+    @TempDir
+    Path dir;
+
+    private ImageResourceHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.write(dir.resolve(HASH_NAME), new byte[100]);
+        Files.write(dir.resolve("legacy.png"), new byte[10]);
+
+        handler = new ImageResourceHandler();
+        handler.setLocations(List.of(new FileSystemResource(dir.toString() + "/")));
+        handler.setResourceHttpMessageConverter(new SendfileResourceHttpMessageConverter(50));
+        handler.setServletContext(new MockServletContext());
+        handler.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown(){
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void contentAddressedNameIsImmutableAndRevalidatesTo304() throws Exception {
+        MockHttpServletResponse first = get(HASH_NAME, null);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader("ETag")).isEqualTo("\"" + "a".repeat(64) + "\"");
+        assertThat(first.getHeader("Cache-Control")).contains("immutable");
+
+        MockHttpServletRequest request = request(HASH_NAME);
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse second = handle(request);
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getHeader("Cache-Control")).contains("immutable");
+        assertThat(handler.getStats()).containsEntry("notModifiedCount", 1L).containsEntry("bytesSaved", 100L);
+    }
+
+    @Test
+    void otherNamesRevalidateAndSupportRange() throws Exception {
+        MockHttpServletResponse response = get("legacy.png", "bytes=0-3");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).hasSize(4);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache, public");
+    }
+
+    @Test
+    void largeFileIsHandedToSendfile() throws Exception {
+        MockHttpServletRequest request = request(HASH_NAME);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        MockHttpServletResponse response = handle(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(100);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(100L);
+        assertThat(handler.getStats()).containsEntry("sendfileCount", 1L);
+    }
+
+    @Test
+    void precompressedSiblingIsServedWithItsOwnEtag() throws Exception {
+        String svgName = "b".repeat(64) + ".svg";
+        Files.writeString(dir.resolve(svgName), "<svg xmlns=\"http://www.w3.org/2000/svg\">" + "<rect/>".repeat(300) + "</svg>");
+        long gzipSize = Files.size(Precompressor.gzip(dir.resolve(svgName)));
+
+        handler.setResourceResolvers(List.of(new PrecompressedResourceResolver(Set.of("svg")), new PathResourceResolver()));
+        handler.afterPropertiesSet();
+
+        MockHttpServletRequest request = request(svgName);
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse gzip = handle(request);
+
+        assertThat(gzip.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzip.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(gzip.getContentType()).isEqualTo("image/svg+xml");
+        assertThat(gzip.getContentLengthLong()).isEqualTo(gzipSize);
+        assertThat(gzip.getHeader("ETag")).isEqualTo("\"" + "b".repeat(64) + "-gzip\"");
+
+        MockHttpServletResponse identity = get(svgName, null);
+        assertThat(identity.getHeader("Content-Encoding")).isNull();
+        assertThat(identity.getHeader("ETag")).isEqualTo("\"" + "b".repeat(64) + "\"");
+    }
+
+    @Test
+    void uploadWorkFilesAreNotServed() throws Exception {
+        Files.writeString(dir.resolve(HASH_NAME + ".ref"), "2");
+        Files.write(dir.resolve("upload-1.tmp"), new byte[10]);
+
+        // 404 (NoResourceFoundException)
+        assertThatThrownBy(() -> get(HASH_NAME + ".ref", null)).isInstanceOf(NoResourceFoundException.class);
+        assertThatThrownBy(() -> get("upload-1.tmp", null)).isInstanceOf(NoResourceFoundException.class);
+    }
+
+    private MockHttpServletResponse get(String name, String range) throws Exception {
+        MockHttpServletRequest request = request(name);
+        if(range != null){
+            request.addHeader("Range", range);
+        }
+        return handle(request);
+    }
+
+    private MockHttpServletRequest request(String name){
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/static/imgs/" + name);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, name);
+        return request;
+    }
+
+    private MockHttpServletResponse handle(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        handler.handleRequest(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,124 @@
+package it.exam.book_purple.common.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import it.exam.book_purple.common.thumbnail.ThumbnailJob;
+import it.exam.book_purple.common.thumbnail.ThumbnailJobService;
+import it.exam.book_purple.common.thumbnail.ThumbnailSize;
+import it.exam.book_purple.common.utils.FileUtils;
+
+class ImageVariantResourceResolverTest {
+
+    @TempDir
+    Path dir;
+
+    private ThumbnailJobService thumbnailJobService;
+    private ImageVariantResourceResolver resolver;
+    private List<Resource> locations;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(dir.resolve("gallery"));
+        ImageIO.write(new BufferedImage(400, 600, BufferedImage.TYPE_INT_RGB), "png", dir.resolve("gallery/cover.png").toFile());
+
+        thumbnailJobService = new ThumbnailJobService(new FileUtils(), 2, 10, 1, 10);
+        resolver = new ImageVariantResourceResolver(thumbnailJobService, dir.resolve("variant").toString(),
+                                                    List.of(new ThumbnailSize(100, 150)), 5000, 60000);
+        locations = List.of(new FileSystemResource(dir.resolve("gallery").toString() + "/"));
+    }
+
+    @AfterEach
+    void tearDown(){
+        thumbnailJobService.shutdown();
+    }
+
+    @Test
+    void concurrentRequestsForNewVariantResizeOnce() throws Exception {
+        int requests = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Resource>> futures = new ArrayList<>();
+
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()){
+            for(int i = 0; i < requests; i++){
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return resolve("cover.png", "100", "150");
+                }));
+            }
+            start.countDown();
+        }
+
+        Path variant = dir.resolve("variant/100x150/cover.png");
+        for(Future<Resource> future : futures){
+            assertThat(future.get().getFile().toPath()).isEqualTo(variant);
+        }
+        assertThat(ImageIO.read(variant.toFile()).getWidth()).isEqualTo(100);
+        assertThat(resolver.getStats()).containsEntry("generatedCount", 1L);
+    }
+
+    @Test
+    void rejectsSizesOutsideWhitelist(){
+        assertThat(resolve("cover.png", "101", "150")).isNull();
+        assertThat(resolver.getStats()).containsEntry("rejectedCount", 1L);
+    }
+
+    @Test
+    void deletingOriginRemovesVariants() throws Exception {
+        resolve("cover.png", "100", "150");
+
+        resolver.invalidate(dir.resolve("gallery/cover.png"));
+
+        assertThat(dir.resolve("variant/100x150/cover.png")).doesNotExist();
+    }
+
+    @Test
+    void brokenOriginIsNotResizedAgainUntilTtl() throws Exception {
+        Files.writeString(dir.resolve("gallery/broken.png"), "not an image");
+
+        assertThat(resolve("broken.png", "100", "150")).isNull();
+        assertThat(resolve("broken.png", "100", "150")).isNull();
+
+        assertThat(resolver.getStats()).containsEntry("failedCount", 1L)
+                                       .containsEntry("failureHitCount", 1L);
+    }
+
+    @Test
+    void prebuiltVariantIsServedWithoutResizing() throws Exception {
+        ThumbnailJob job = resolver.prebuild(dir.resolve("gallery/cover.png"));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(job.getStatus() != ThumbnailJob.Status.DONE && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+
+        assertThat(resolve("cover.png", "100", "150").getFile().toPath())
+            .isEqualTo(dir.resolve("variant/100x150/cover.png"));
+        assertThat(resolver.getStats()).containsEntry("generatedCount", 0L);
+    }
+
+    private Resource resolve(String name, String width, String height){
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("w", width);
+        request.setParameter("h", height);
+        return resolver.resolveResource(request, name, locations, null);
+    }
+}
@@ -0,0 +1,104 @@
+package it.exam.book_purple.common.thumbnail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.exam.book_purple.common.utils.FileUtils;
+
+class ThumbnailJobServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ThumbnailJobService thumbnailJobService;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailJobService = new ThumbnailJobService(new FileUtils(), 2, 10, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailJobService.shutdown();
+    }
+
+    @Test
+    void createsAllSizesInBackground() throws Exception {
+        File origin = tempDir.resolve("cover.png").toFile();
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", origin);
+        String thumbPath = tempDir.resolve("thumb").toString();
+
+        ThumbnailJob job = thumbnailJobService.submit(origin, thumbPath,
+                            Map.of(new ThumbnailSize(200, 150), "cover-200.png", new ThumbnailSize(100, 75), "cover-100.png"));
+
+        assertThat(job.getThumbFileNames()).hasSize(2);
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(ThumbnailJob.Status.DONE);
+        for(String thumbFileName : job.getThumbFileNames().values()){
+            assertThat(new File(thumbPath, thumbFileName)).exists();
+        }
+        assertThat(thumbnailJobService.getJob(job.getJobId())).isSameAs(job);
+        assertThat(job.toResult())
+            .containsEntry("status", ThumbnailJob.Status.DONE)
+            .containsEntry("attempts", 1)
+            .doesNotContainKeys("originFile", "thumbPath");
+        // 임시파일(thumb-*.tmp)은 남지 않음
+        assertThat(new File(thumbPath).list()).hasSize(2);
+    }
+
+    @Test
+    void failsAfterRetries() throws Exception {
+        File origin = tempDir.resolve("broken.png").toFile();
+        Files.writeString(origin.toPath(), "not an image");
+
+        ThumbnailJob job = thumbnailJobService.submit(origin, tempDir.toString(),
+                            Map.of(new ThumbnailSize(200, 150), "broken-200.png"));
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(ThumbnailJob.Status.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsImageOverDecodeBudgetWithoutRetry() throws Exception {
+        File origin = tempDir.resolve("large.png").toFile();
+        ImageIO.write(new BufferedImage(2000, 2000, BufferedImage.TYPE_INT_RGB), "png", origin);
+
+        FileUtils fileUtils = new FileUtils();
+        fileUtils.setDecodeBudgetBytes(1024 * 1024);
+        ThumbnailJobService service = new ThumbnailJobService(fileUtils, 1, 10, 3, 10);
+
+        try{
+            // 1000x1000 까지 줄여 읽어도 4MB > 1MB
+            ThumbnailJob job = service.submit(origin, tempDir.toString(), Map.of(new ThumbnailSize(500, 500), "large-500.png"));
+            awaitFinished(job);
+
+            assertThat(job.getStatus()).isEqualTo(ThumbnailJob.Status.FAILED);
+            assertThat(job.getAttempts()).isEqualTo(1);
+        }finally{
+            service.shutdown();
+        }
+    }
+
+    private void awaitFinished(ThumbnailJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(job.getStatus() != ThumbnailJob.Status.DONE
+                && job.getStatus() != ThumbnailJob.Status.FAILED
+                && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package it.exam.book_purple.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileUtilsUploadTest {
+
+    @TempDir
+    Path dir;
+
+    private final FileUtils fileUtils = new FileUtils();
+
+    @Test
+    void sameContentIsStoredOnceAndDeletedWithLastReference() throws Exception {
+        byte[] content = "book cover".getBytes(StandardCharsets.UTF_8);
+
+        Map<String, Object> first = fileUtils.uploadFile(new ByteArrayInputStream(content), "a.png", dir.toString());
+        Map<String, Object> second = fileUtils.uploadFile(new ByteArrayInputStream(content), "b.png", dir.toString());
+
+        String storedFileName = (String) first.get("storedFileName");
+        assertThat(second.get("storedFileName")).isEqualTo(storedFileName);
+        assertThat(first.get("fileSize")).isEqualTo((long) content.length);
+        assertThat(Files.list(dir).filter(p -> p.toString().endsWith(".tmp"))).isEmpty();
+
+        Path stored = dir.resolve(storedFileName);
+        fileUtils.deleteFile(stored.toString());
+        assertThat(stored).exists();
+
+        fileUtils.deleteFile(stored.toString());
+        assertThat(stored).doesNotExist();
+        assertThat(dir.resolve(storedFileName + ".ref")).doesNotExist();
+    }
+
+    @Test
+    void textFormatsGetGzipSiblingRemovedWithFile() throws Exception {
+        PrecompressProperties properties = new PrecompressProperties();
+        properties.setExtensions(Set.of("SVG"));
+        properties.setMinSize(100);
+        fileUtils.setPrecompressProperties(properties);
+
+        byte[] svg = ("<svg>" + "<rect/>".repeat(100) + "</svg>").getBytes(StandardCharsets.UTF_8);
+        Map<String, Object> svgResult = fileUtils.uploadFile(new ByteArrayInputStream(svg), "cover.svg", dir.toString());
+        Map<String, Object> pngResult = fileUtils.uploadFile(new ByteArrayInputStream(svg), "cover.png", dir.toString());
+
+        Path stored = dir.resolve((String) svgResult.get("storedFileName"));
+        Path gzip = dir.resolve(stored.getFileName() + ".gz");
+        assertThat(gzip).exists();
+        assertThat(Files.size(gzip)).isLessThan(svg.length);
+        assertThat(dir.resolve(pngResult.get("storedFileName") + ".gz")).doesNotExist();
+
+        fileUtils.deleteFile(stored.toString());
+        assertThat(gzip).doesNotExist();
+    }
+}
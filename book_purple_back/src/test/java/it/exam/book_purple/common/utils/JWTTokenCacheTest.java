@@ -0,0 +1,74 @@
+package it.exam.book_purple.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import it.exam.book_purple.security.dto.RoleAuthorities;
+import it.exam.book_purple.security.dto.TokenClaimsDTO;
+
+class JWTTokenCacheTest {
+
+    private static final String SECRET = "vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbalaaaaaaaaaaaaaaaabbbbb";
+
+    private JWTUtils jwtUtils;
+    private JWTTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JWTUtils(SECRET);
+        tokenCache = new JWTTokenCache(jwtUtils, true, 100);
+    }
+
+    @Test
+    void cachesVerifiedToken() {
+        String token = jwtUtils.createJWT("access", "user01", "홍길동", "USER", 30L);
+
+        TokenClaimsDTO first = tokenCache.parseToken(token);
+        TokenClaimsDTO second = tokenCache.parseToken(token);
+
+        assertThat(first.getUserId()).isEqualTo("user01");
+        assertThat(second).isSameAs(first);
+        assertThat(tokenCache.getStats())
+            .containsEntry("hitCount", 1L)
+            .containsEntry("missCount", 1L);
+    }
+
+    @Test
+    void doesNotCacheInvalidToken() {
+        String token = jwtUtils.createJWT("access", "user01", "홍길동", "USER", 30L) + "x";
+
+        assertThat(tokenCache.parseToken(token)).isNull();
+        assertThat(tokenCache.parseToken(token)).isNull();
+        assertThat(tokenCache.getStats()).containsEntry("size", 0L);
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        String token = jwtUtils.createJWT("access", "user01", "홍길동", "USER", 30L);
+        tokenCache.parseToken(token);
+
+        tokenCache.invalidate(token);
+        tokenCache.parseToken(token);
+
+        assertThat(tokenCache.getStats()).containsEntry("missCount", 2L);
+    }
+
+    @Test
+    void cachedTokenSeesRoleChanges() {
+        String token = jwtUtils.createJWT("access", "user01", "홍길동", "ROLE_EDITOR", 30L);
+        RoleAuthorities.register("EDITOR");
+        Authentication authentication = tokenCache.parseToken(token).toAuthentication();
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                                                   .containsExactly("ROLE_EDITOR");
+
+        // 캐시에 남아 있는 같은 인증 객체라도 사용 중지가 바로 반영
+        RoleAuthorities.disable("EDITOR");
+
+        assertThat(tokenCache.parseToken(token).toAuthentication()).isSameAs(authentication);
+        assertThat(authentication.getAuthorities()).isEmpty();
+    }
+}
@@ -0,0 +1,33 @@
+package it.exam.book_purple.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class JsonResponseUtilsTest {
+
+    @Test
+    void writesPreEncodedBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = JsonResponseUtils.encodeResult("FAIL", 400);
+
+        JsonResponseUtils.write(response, 400, body);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentAsString()).isEqualTo("{\"resultMsg\":\"FAIL\",\"status\":400}");
+    }
+
+    @Test
+    void streamsBodyAsUtf8() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        JsonResponseUtils.writeResult(response, 406, "유효하지 않은 토큰입니다.");
+
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+            .isEqualTo("{\"resultMsg\":\"유효하지 않은 토큰입니다.\",\"status\":406}");
+    }
+}
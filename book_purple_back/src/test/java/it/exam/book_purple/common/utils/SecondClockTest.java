@@ -0,0 +1,50 @@
+package it.exam.book_purple.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+class SecondClockTest {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private long millis = Instant.parse("2025-03-01T14:59:59.100Z").toEpochMilli();
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.ofHours(9);
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    };
+
+    @Test
+    void formatsOncePerSecondInClockZone() {
+        SecondClock secondClock = new SecondClock(clock, FORMAT);
+
+        String first = secondClock.now();
+        millis += 800;
+        String sameSecond = secondClock.now();
+        millis += 100;
+        String nextSecond = secondClock.now();
+
+        assertThat(first).isEqualTo("2025-03-01 23:59:59");
+        assertThat(sameSecond).isSameAs(first);
+        assertThat(nextSecond).isEqualTo("2025-03-02 00:00:00");
+    }
+}
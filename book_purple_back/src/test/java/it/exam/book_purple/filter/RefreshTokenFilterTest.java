@@ -0,0 +1,78 @@
+package it.exam.book_purple.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import it.exam.book_purple.common.utils.CookieUtils;
+import it.exam.book_purple.common.utils.JWTUtils;
+import it.exam.book_purple.security.store.InMemoryTokenRevocationStore;
+import jakarta.servlet.http.Cookie;
+
+class RefreshTokenFilterTest {
+
+    private static final String SECRET = "vmfhaltmskdlstkfkdgodyroqkfwkdbalroqkfwkdbalaaaaaaaaaaaaaaaabbbbb";
+
+    private JWTUtils jwtUtils;
+    private RefreshTokenFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JWTUtils(SECRET);
+        filter = new RefreshTokenFilter(jwtUtils, new InMemoryTokenRevocationStore(), new CookieUtils());
+    }
+
+    @Test
+    void rotatesRefreshToken() throws Exception {
+        String refreshToken = jwtUtils.createRefreshJWT(null, "user01", "홍길동", "ROLE_USER");
+
+        MockHttpServletResponse response = refresh(refreshToken);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Authorization")).isNotBlank();
+        assertThat(response.getCookie("refresh").getValue()).isNotEqualTo(refreshToken);
+    }
+
+    @Test
+    void rejectsReusedRefreshToken() throws Exception {
+        String refreshToken = jwtUtils.createRefreshJWT(null, "user01", "홍길동", "ROLE_USER");
+
+        refresh(refreshToken);
+        MockHttpServletResponse response = refresh(refreshToken);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader("Authorization")).isNull();
+    }
+
+    @Test
+    void reuseRevokesRotatedTokensOfSameLogin() throws Exception {
+        String refreshToken = jwtUtils.createRefreshJWT(null, "user01", "홍길동", "ROLE_USER");
+        String rotated = refresh(refreshToken).getCookie("refresh").getValue();
+        String otherLogin = jwtUtils.createRefreshJWT(null, "user01", "홍길동", "ROLE_USER");
+
+        refresh(refreshToken);
+
+        assertThat(refresh(rotated).getStatus()).isEqualTo(401);
+        assertThat(refresh(otherLogin).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void rejectsAccessToken() throws Exception {
+        String accessToken = jwtUtils.createJWT("access", "user01", "홍길동", "ROLE_USER", 30L);
+
+        assertThat(refresh(accessToken).getStatus()).isEqualTo(401);
+    }
+
+    private MockHttpServletResponse refresh(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", RefreshTokenFilter.REFRESH_URI);
+        request.setCookies(new Cookie("refresh", token));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
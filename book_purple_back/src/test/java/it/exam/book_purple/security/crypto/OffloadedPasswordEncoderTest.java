@@ -0,0 +1,69 @@
+package it.exam.book_purple.security.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import it.exam.book_purple.config.PasswordEncoderConfig;
+
+class OffloadedPasswordEncoderTest {
+
+    private final PasswordVerifyExecutor verifyExecutor = new PasswordVerifyExecutor(1, 1, 5000);
+    private final DelegatingPasswordEncoder delegating = delegating(5);
+    private final OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(delegating, verifyExecutor);
+
+    @AfterEach
+    void tearDown() {
+        verifyExecutor.shutdown();
+    }
+
+    @Test
+    void upgradesOnlyLowerCostHashes() {
+        String sameCost = new BCryptPasswordEncoder(5).encode("1234");
+        String lowerCost = new BCryptPasswordEncoder(4).encode("1234");
+
+        // prefix 만 없는 해시는 그대로 사용
+        assertThat(encoder.upgradeEncoding(sameCost)).isFalse();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + sameCost)).isFalse();
+        assertThat(encoder.upgradeEncoding(lowerCost)).isTrue();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + lowerCost)).isTrue();
+    }
+
+    @Test
+    void encodeDoesNotWaitForSaturatedPool() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 스레드 1개 사용중 + 대기열 1개 (가득 참)
+        CompletableFuture.runAsync(() -> verifyExecutor.execute(() -> {
+            started.countDown();
+            release.await();
+            return true;
+        }));
+        started.await();
+        CompletableFuture.runAsync(() -> verifyExecutor.execute(() -> true));
+        while(verifyExecutor.getStats().get("queueDepth").equals(0)){
+            Thread.onSpinWait();
+        }
+
+        String encoded = encoder.encode("1234");
+
+        assertThat(delegating.matches("1234", encoded)).isTrue();
+        assertThat(verifyExecutor.getStats()).containsEntry("rejectedCount", 0L);
+
+        release.countDown();
+    }
+
+    private static DelegatingPasswordEncoder delegating(int strength){
+        PasswordEncoderConfig config = new PasswordEncoderConfig();
+        ReflectionTestUtils.setField(config, "bcryptStrength", strength);
+        return config.delegatingPasswordEncoder();
+    }
+}
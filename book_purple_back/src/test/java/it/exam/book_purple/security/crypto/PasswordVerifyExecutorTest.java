@@ -0,0 +1,51 @@
+package it.exam.book_purple.security.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PasswordVerifyExecutorTest {
+
+    private final PasswordVerifyExecutor verifyExecutor = new PasswordVerifyExecutor(1, 1, 5000);
+
+    @AfterEach
+    void tearDown() {
+        verifyExecutor.shutdown();
+    }
+
+    @Test
+    void runsTaskOnVerifyThread() {
+        String threadName = verifyExecutor.execute(() -> Thread.currentThread().getName());
+
+        assertThat(threadName).startsWith("passwd-verify-");
+    }
+
+    @Test
+    void shedsWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 스레드 1개 사용중 + 대기열 1개
+        CompletableFuture.runAsync(() -> verifyExecutor.execute(() -> {
+            started.countDown();
+            release.await();
+            return true;
+        }));
+        started.await();
+        CompletableFuture.runAsync(() -> verifyExecutor.execute(() -> true));
+        while(verifyExecutor.getStats().get("queueDepth").equals(0)){
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> verifyExecutor.execute(() -> true))
+            .isInstanceOf(LoginOverloadedException.class);
+        assertThat(verifyExecutor.getStats()).containsEntry("rejectedCount", 1L);
+
+        release.countDown();
+    }
+}
@@ -0,0 +1,132 @@
+package it.exam.book_purple.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import it.exam.book_purple.security.dto.RoleAuthorities;
+import it.exam.book_purple.security.entity.UserEntity;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+import it.exam.book_purple.security.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+
+// 같은 트랜잭션에서 insert 한 엔티티는 2차 캐시에 넣지 않으므로 테스트 데이터는 커밋하고 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(RoleAuthorityService.class)
+class RoleAuthorityServiceTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleAuthorityService roleAuthorityService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            UserRoleEntity role = new UserRoleEntity();
+            role.setRoleId("USER");
+            role.setRoleName("일반회원");
+            role.setUseYn("Y");
+            em.persist(role);
+
+            for(int i = 0; i < 3; i++){
+                UserEntity user = new UserEntity();
+                user.setUserId("user0" + i);
+                user.setPasswd("{noop}1234");
+                user.setUserName("회원" + i);
+                user.setUseYn("Y");
+                user.setDelYn("N");
+                user.setRole(role);
+                em.persist(user);
+            }
+        });
+
+        roleAuthorityService.evictAll();
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("delete from UserEntity").executeUpdate();
+            em.createQuery("delete from UserRoleEntity").executeUpdate();
+        });
+    }
+
+    @Test
+    void roleTableIsReadOncePerCacheLifetime() {
+        // 트랜잭션(영속성 컨텍스트)이 바뀌어도 role 은 2차 캐시에서
+        for(int i = 0; i < 3; i++){
+            String userId = "user0" + i;
+            String roleName = tx.execute(status ->
+                    userRepository.findById(userId).orElseThrow().getRole().getRoleName());
+            assertThat(roleName).isEqualTo("일반회원");
+        }
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("role");
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(2);
+        // 회원 3번 + role 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        // 비우면 다시 한번 읽음
+        roleAuthorityService.evictRole("USER");
+        roleAuthorityService.getRole("USER");
+        roleAuthorityService.getRole("USER");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void updateRoleEvictsCachedRole() {
+        assertThat(roleAuthorityService.getRole("USER").getRoleName()).isEqualTo("일반회원");
+
+        UserRoleEntity updated = roleAuthorityService.updateRole("USER", "회원", "Y");
+        assertThat(updated.getRoleName()).isEqualTo("회원");
+
+        assertThat(roleAuthorityService.getRole("USER").getRoleName()).isEqualTo("회원");
+    }
+
+    @Test
+    void disabledRoleHasNoAuthorities() {
+        roleAuthorityService.updateRole("USER", "일반회원", "N");
+
+        // 나중에 토큰/로그인에서 다시 조회해도 권한이 생기지 않음
+        assertThat(RoleAuthorities.of("USER")).isEmpty();
+        assertThat(RoleAuthorities.of(RoleAuthorities.ROLE_PREFIX + "USER")).isEmpty();
+
+        roleAuthorityService.updateRole("USER", "일반회원", "Y");
+        assertThat(RoleAuthorities.of("ROLE_USER")).extracting(GrantedAuthority::getAuthority)
+                                                    .containsExactly("ROLE_USER");
+    }
+}
@@ -0,0 +1,176 @@
+package it.exam.book_purple.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import it.exam.book_purple.config.JpaAuditingConfig;
+import it.exam.book_purple.config.PasswordEncoderConfig;
+import it.exam.book_purple.config.QueryDslConfig;
+import it.exam.book_purple.security.crypto.PasswordVerifyExecutor;
+import it.exam.book_purple.security.dto.UserImportJob;
+import it.exam.book_purple.security.dto.UserImportResultDTO;
+import it.exam.book_purple.security.entity.UserEntity;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+import it.exam.book_purple.security.repository.UserQueryRepository;
+import jakarta.persistence.EntityManager;
+
+// chunk 마다 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {"spring.user.import.chunk-size=2", "spring.password.bcrypt-strength=4"})
+@Import({UserBulkService.class, UserListService.class, UserSearchService.class, UserQueryRepository.class,
+         QueryDslConfig.class, JpaAuditingConfig.class, PasswordEncoderConfig.class, PasswordVerifyExecutor.class})
+class UserBulkServiceTest {
+
+    private static final String HEADER = "userId,passwd,userName,birth,gender,phone,email,addr,addrDetail,useYn,roleId\n";
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private DelegatingPasswordEncoder delegatingPasswordEncoder;
+
+    // 로그인용 (검증 풀 사용)
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PasswordVerifyExecutor verifyExecutor;
+
+    private String hashed;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        hashed = delegatingPasswordEncoder.encode("1234");
+        tx.executeWithoutResult(status -> {
+            UserRoleEntity role = new UserRoleEntity();
+            role.setRoleId("USER");
+            role.setRoleName("일반회원");
+            role.setUseYn("Y");
+            em.persist(role);
+
+            UserEntity user = new UserEntity();
+            user.setUserId("exists");
+            user.setPasswd(hashed);
+            user.setUserName("기존회원");
+            user.setUseYn("Y");
+            user.setDelYn("N");
+            user.setRole(role);
+            em.persist(user);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("delete from UserEntity").executeUpdate();
+            em.createQuery("delete from UserRoleEntity").executeUpdate();
+        });
+    }
+
+    @Test
+    void failedChunkIsRolledBackAndReportedWithLineRange() throws Exception {
+        String csv = "\uFEFF" + HEADER
+                   + "u1," + hashed + ",회원1,,,,,,,Y,user\n"
+                   + "u2,plain,\"홍, 길동\",,,,,,,,USER\n"
+                   + "u3," + hashed + ",회원3,,,,,,,Y,USER\n"
+                   + "exists," + hashed + ",중복,,,,,,,Y,USER\n"  // DB 에 있는 아이디 -> 2번 chunk 실패
+                   + "u5,,회원5,,,,,,,Y,USER\n"                   // 필수값 누락
+                   + "u6,{noop}1234,회원6,,,,,,,Y,USER\n"         // bcrypt 외 암호화 값
+                   + "u7," + hashed + ",회원7,,,,,,,Y,USER\n";
+
+        UserImportResultDTO result = userBulkService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getTotalRows()).isEqualTo(7);
+        assertThat(result.getSuccessRows()).isEqualTo(3);
+        assertThat(result.getFailedRows()).isEqualTo(4);
+        assertThat(result.getErrors())
+            .extracting(UserImportResultDTO.ImportError::getChunk,
+                        UserImportResultDTO.ImportError::getFromLine,
+                        UserImportResultDTO.ImportError::getToLine)
+            .containsExactlyInAnyOrder(
+                tuple(2, 4, 5),
+                tuple(0, 6, 6),
+                tuple(0, 7, 7));
+
+        // 가져오기는 로그인 검증 풀을 쓰지 않음
+        assertThat(verifyExecutor.getStats()).containsEntry("completedCount", 0L);
+
+        UserEntity u2 = em.find(UserEntity.class, "u2");
+        assertThat(u2.getUserName()).isEqualTo("홍, 길동");
+        assertThat(u2.getPasswd()).startsWith("{bcrypt}$2a$04$");
+        assertThat(passwordEncoder.matches("plain", u2.getPasswd())).isTrue();
+        assertThat(u2.getUseYn()).isEqualTo("Y");
+        assertThat(em.find(UserEntity.class, "u3")).isNull();
+        assertThat(em.find(UserEntity.class, "u6")).isNull();
+        assertThat(passwordEncoder.matches("1234", em.find(UserEntity.class, "u7").getPasswd())).isTrue();
+    }
+
+    @Test
+    void importJobRunsInBackgroundAndDeletesFile() throws Exception {
+        Path csvFile = Files.createTempFile("user-import-", ".csv");
+        Files.writeString(csvFile, HEADER + "u1,plain,회원1,,,,,,,Y,USER\n" + "u2,,회원2,,,,,,,Y,USER\n");
+
+        UserImportJob job = userBulkService.submitImport(csvFile);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(job.getStatus() != UserImportJob.Status.DONE && job.getStatus() != UserImportJob.Status.FAILED
+                && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.DONE);
+        assertThat(job.getResult().getSuccessRows()).isEqualTo(1);
+        assertThat(job.getResult().getFailedRows()).isEqualTo(1);
+        assertThat(userBulkService.getImportJob(job.getJobId())).isSameAs(job);
+        assertThat(csvFile).doesNotExist();
+    }
+
+    @Test
+    void exportWritesBomHeaderAndQuotedValues() throws Exception {
+        userBulkService.importUsers(new ByteArrayInputStream(
+                (HEADER + "u1," + hashed + ",\"이름 \"\"별명\"\"\",,,,,,,Y,USER\n").getBytes(StandardCharsets.UTF_8)));
+
+        StringWriter writer = new StringWriter();
+        userBulkService.exportUsers(writer);
+
+        String[] lines = writer.toString().split("\r?\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("\uFEFFuserId,userName,");
+        assertThat(lines[1]).startsWith("exists,기존회원,");
+        assertThat(lines[2]).startsWith("u1,\"이름 \"\"별명\"\"\",");
+    }
+}
@@ -0,0 +1,104 @@
+package it.exam.book_purple.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import it.exam.book_purple.common.dto.CursorResponse;
+import it.exam.book_purple.config.QueryDslConfig;
+import it.exam.book_purple.security.dto.UserListDTO;
+import it.exam.book_purple.security.entity.UserEntity;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+import it.exam.book_purple.security.repository.UserQueryRepository;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({UserListService.class, UserQueryRepository.class, QueryDslConfig.class})
+class UserListServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserListService userListService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserRoleEntity role = new UserRoleEntity();
+        role.setRoleId("USER");
+        role.setRoleName("일반회원");
+        role.setUseYn("Y");
+        em.persist(role);
+
+        for(int i = 0; i < 25; i++){
+            UserEntity user = new UserEntity();
+            user.setUserId(String.format("user%02d", i));
+            user.setPasswd("{noop}1234");
+            user.setUserName("회원" + i);
+            user.setUseYn("Y");
+            user.setDelYn("N");
+            user.setRole(role);
+            em.persist(user);
+        }
+        em.flush();
+
+        // 3명씩 같은 가입일 (userId 로 순서 결정)
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for(int i = 0; i < 25; i++){
+            em.getEntityManager()
+              .createNativeQuery("update user set create_date = ? where user_id = ?")
+              .setParameter(1, base.plusDays((24 - i) / 3))
+              .setParameter(2, String.format("user%02d", i))
+              .executeUpdate();
+        }
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                       .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void walksAllUsersInOrderWithoutCountQuery() {
+        List<String> userIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do{
+            CursorResponse<UserListDTO> page = userListService.getUsers(cursor, 10, false);
+            page.getList().forEach(user -> userIds.add(user.getUserId()));
+            cursor = page.getNextCursor();
+            pages++;
+        }while(cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(userIds).hasSize(25).doesNotHaveDuplicates();
+        assertThat(userIds.subList(0, 4)).containsExactly("user22", "user23", "user24", "user19");
+        // 페이지당 쿼리 1번 (role 포함, count 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void totalIsCountedOnceAndCached() {
+        assertThat(userListService.getUsers(null, 10, true).getTotalRows()).isEqualTo(25L);
+        assertThat(userListService.getUsers(null, 10, true).getTotalRows()).isEqualTo(25L);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
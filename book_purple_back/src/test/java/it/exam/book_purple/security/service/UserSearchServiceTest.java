@@ -0,0 +1,116 @@
+package it.exam.book_purple.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import it.exam.book_purple.config.QueryDslConfig;
+import it.exam.book_purple.security.dto.UserListDTO;
+import it.exam.book_purple.security.dto.UserSearchDTO;
+import it.exam.book_purple.security.entity.UserEntity;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+import it.exam.book_purple.security.repository.UserQueryRepository;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({UserSearchService.class, UserQueryRepository.class, QueryDslConfig.class})
+class UserSearchServiceTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserRoleEntity role = new UserRoleEntity();
+        role.setRoleId("USER");
+        role.setRoleName("일반회원");
+        role.setUseYn("Y");
+        em.persist(role);
+
+        for(int i = 0; i < 25; i++){
+            UserEntity user = new UserEntity();
+            user.setUserId(String.format("user%02d", i));
+            user.setPasswd("{noop}1234");
+            user.setUserName("회원" + i);
+            user.setUseYn(i % 5 == 0 ? "N" : "Y");
+            user.setDelYn("N");
+            user.setRole(role);
+            em.persist(user);
+        }
+        em.flush();
+        em.clear();
+
+        userSearchService.evictCounts();
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                       .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void countIsCachedPerNormalizedFilter() {
+        long hitCount = (long) userSearchService.getStats().get("hitCount");
+
+        Page<UserListDTO> first = userSearchService.searchUsers(search(" USER ", "y"), 0, 5);
+        assertThat(first.getTotalElements()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // 같은 조건 (공백, 대소문자만 다름) 다음 페이지 : count 없이 목록만
+        Page<UserListDTO> second = userSearchService.searchUsers(search("user", "Y"), 1, 5);
+        assertThat(second.getTotalElements()).isEqualTo(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(userSearchService.getStats()).containsEntry("hitCount", hitCount + 1);
+    }
+
+    @Test
+    void lastPageGivesExactCountWithoutCountQuery() {
+        Page<UserListDTO> last = userSearchService.searchUsers(search("user", null), 2, 10);
+
+        assertThat(last.getContent()).hasSize(5);
+        assertThat(last.getTotalElements()).isEqualTo(25);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 캐시된 정확한 값을 앞 페이지에서 사용
+        assertThat(userSearchService.searchUsers(search("user", null), 0, 10).getTotalElements()).isEqualTo(25);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void searchTypeIsMatchedIgnoringCaseForQueryAndCountCache() {
+        UserSearchDTO byId = search("user0", null);
+        byId.setSearchType("USERID");
+        assertThat(userSearchService.searchUsers(byId, 0, 5).getTotalElements()).isEqualTo(10);
+
+        UserSearchDTO sameId = search("user0", null);
+        sameId.setSearchType(" userId ");
+        assertThat(sameId.toCacheKey()).isEqualTo(byId.toCacheKey());
+
+        // 이름에는 "user" 가 없음 -> 다른 조건이라 다른 캐시 키
+        UserSearchDTO byName = search("user0", null);
+        byName.setSearchType("username");
+        assertThat(byName.toCacheKey()).isNotEqualTo(byId.toCacheKey());
+        assertThat(userSearchService.searchUsers(byName, 0, 5).getTotalElements()).isZero();
+    }
+
+    private static UserSearchDTO search(String keyword, String useYn){
+        UserSearchDTO search = new UserSearchDTO();
+        search.setKeyword(keyword);
+        search.setUseYn(useYn);
+        return search;
+    }
+}
@@ -0,0 +1,67 @@
+package it.exam.book_purple.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import it.exam.book_purple.security.dto.UserSecureDTO;
+import it.exam.book_purple.security.entity.UserEntity;
+import it.exam.book_purple.security.entity.UserRoleEntity;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(UserServiceDetails.class)
+class UserServiceDetailsTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserServiceDetails userServiceDetails;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserRoleEntity role = new UserRoleEntity();
+        role.setRoleId("USER");
+        role.setRoleName("일반회원");
+        role.setUseYn("Y");
+        em.persist(role);
+
+        UserEntity user = new UserEntity();
+        user.setUserId("user01");
+        user.setPasswd("{noop}1234");
+        user.setUserName("홍길동");
+        user.setUseYn("Y");
+        user.setDelYn("N");
+        user.setRole(role);
+        em.persist(user);
+
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                       .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void loginRunsSingleQuery() {
+        UserSecureDTO user = (UserSecureDTO) userServiceDetails.loadUserByUsername("user01");
+
+        assertThat(user.getUserName()).isEqualTo("홍길동");
+        assertThat(user.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}